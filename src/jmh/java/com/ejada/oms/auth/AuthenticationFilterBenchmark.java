@@ -0,0 +1,106 @@
+package com.ejada.oms.auth;
+
+import com.ejada.oms.auth.entity.User;
+import com.ejada.oms.auth.filter.JwtAuthenticationFilter;
+import com.ejada.oms.auth.repository.RevokedTokenRepository;
+import com.ejada.oms.auth.repository.UserRepository;
+import com.ejada.oms.auth.service.PrincipalCache;
+import com.ejada.oms.auth.service.RevocationList;
+import com.ejada.oms.auth.service.UserService;
+import com.ejada.oms.core.config.properties.ApplicationProperties;
+import com.ejada.oms.core.config.properties.ApplicationProperties.SecurityProperties;
+import com.ejada.oms.core.util.JwtUtil;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Per-request cost of {@link JwtAuthenticationFilter}: token verification, principal lookup and
+ * the revocation check, for stateless and cached-principal modes. Requests cycle through
+ * {@value #TOKENS} distinct tokens; a verified-token cache of one entry makes every request
+ * verify its signature, the default size serves them from the cache. Runs without a database:
+ * the user is loaded once into the principal cache and the revocation list starts empty.
+ *
+ * @author Ali Hussein
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class AuthenticationFilterBenchmark {
+
+    static final int TOKENS = 64;
+
+    @Param({"true", "false"})
+    public boolean stateless;
+
+    @Param({"1", "10000"})
+    public int verifiedCacheSize;
+
+    private JwtAuthenticationFilter filter;
+    private MockHttpServletRequest[] requests;
+    private final FilterChain chain = (request, response) -> { };
+
+    @Setup(Level.Trial)
+    public void start() {
+        ApplicationProperties applicationProperties = new ApplicationProperties();
+        SecurityProperties security = applicationProperties.getSecurity();
+        security.getJwt().setSecret("benchmarkSecretKey1234567890123456789012345678901234567890");
+        security.getJwt().setExpiration(TimeUnit.HOURS.toMillis(1));
+        security.getJwt().setVerifiedCacheSize(verifiedCacheSize);
+        security.getPrincipalCache().setSize(10_000);
+        security.getPrincipalCache().setTtlSeconds(300);
+        security.getRevocation().setExpectedEntries(10_000);
+        security.getRevocation().setFalsePositiveRate(0.01);
+
+        User user = User.builder()
+                .username("benchmark")
+                .email("benchmark@example.com")
+                .role(User.UserRole.CUSTOMER)
+                .isActive(true)
+                .build();
+        user.setId(1L);
+        UserService userService = mock(UserService.class);
+        when(userService.findByUsername("benchmark")).thenReturn(user);
+
+        RevocationList revocationList = new RevocationList(mock(RevokedTokenRepository.class), mock(UserRepository.class),
+                new TransactionTemplate(mock(PlatformTransactionManager.class)), applicationProperties);
+        revocationList.refresh();
+
+        JwtUtil jwtUtil = new JwtUtil(applicationProperties);
+        filter = new JwtAuthenticationFilter(jwtUtil, userService,
+                new PrincipalCache(applicationProperties, new SimpleMeterRegistry()), revocationList, stateless);
+
+        requests = new MockHttpServletRequest[TOKENS];
+        for (int i = 0; i < TOKENS; i++) {
+            requests[i] = new MockHttpServletRequest("GET", "/v1/orders");
+            requests[i].addHeader("Authorization", "Bearer " + jwtUtil.generateToken(user));
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class Cursor {
+        int next;
+    }
+
+    @Benchmark
+    public Object authenticate(Cursor cursor) throws Exception {
+        MockHttpServletRequest request = requests[cursor.next++ % TOKENS];
+        filter.doFilter(request, new MockHttpServletResponse(), chain);
+        Object principal = SecurityContextHolder.getContext().getAuthentication().getPrincipal();
+        SecurityContextHolder.clearContext();
+        return principal;
+    }
+}
@@ -0,0 +1,92 @@
+package com.ejada.oms.core.specification;
+
+import com.ejada.oms.core.config.properties.ApplicationProperties;
+import com.ejada.oms.core.dto.GeneralFilterDto;
+import com.ejada.oms.core.dto.GeneralFilterDto.FilterCriteria;
+import com.ejada.oms.core.dto.GeneralFilterDto.FilterOperator;
+import com.ejada.oms.order.entity.Order;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.orm.jpa.LocalContainerEntityManagerFactoryBean;
+import org.springframework.orm.jpa.vendor.HibernateJpaVendorAdapter;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of turning an order filter request into a predicate: {@code compile} validates the
+ * criteria and parses their values against the startup-built {@link FilterMetadataRegistry},
+ * {@code predicate} applies the compiled specification to a fresh criteria query.
+ * Hibernate is bootstrapped from the entity metamodel only, so no database is needed.
+ *
+ * @author Ali Hussein
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class FilterSpecificationBenchmark {
+
+    private LocalContainerEntityManagerFactoryBean factoryBean;
+    private CriteriaBuilder criteriaBuilder;
+    private EntityFilterMetadata metadata;
+    private GeneralFilterDto filter;
+    private Specification<Order> specification;
+
+    @Setup(Level.Trial)
+    public void start() {
+        factoryBean = new LocalContainerEntityManagerFactoryBean();
+        factoryBean.setPackagesToScan("com.ejada.oms");
+        factoryBean.setJpaVendorAdapter(new HibernateJpaVendorAdapter());
+        factoryBean.setJpaPropertyMap(Map.of(
+                "hibernate.dialect", "org.hibernate.dialect.PostgreSQLDialect",
+                "hibernate.boot.allow_jdbc_metadata_access", "false",
+                // entity listeners are Spring beans; they are never invoked here
+                "hibernate.jpa_callbacks.enabled", "false"));
+        factoryBean.afterPropertiesSet();
+        EntityManagerFactory entityManagerFactory = factoryBean.getObject();
+        criteriaBuilder = entityManagerFactory.getCriteriaBuilder();
+
+        ApplicationProperties properties = new ApplicationProperties();
+        properties.getSearch().setEntities(Map.of());
+        metadata = new FilterMetadataRegistry(entityManagerFactory, properties).forEntity(Order.class);
+
+        filter = GeneralFilterDto.builder()
+                .filters(List.of(
+                        criterion("customer.firstName", FilterOperator.CONTAINS, "ali", null),
+                        criterion("orderStatus", FilterOperator.IN, "PENDING,CONFIRMED", null),
+                        criterion("totalAmount", FilterOperator.BETWEEN, "10.00", "500.00"),
+                        criterion("orderDate", FilterOperator.GREATER_THAN, "2024-01-01T00:00:00", null)))
+                .build();
+        specification = DynamicSpecificationBuilder.buildSpecification(filter, metadata);
+    }
+
+    @TearDown(Level.Trial)
+    public void stop() {
+        factoryBean.destroy();
+    }
+
+    @Benchmark
+    public Specification<Order> compile() {
+        return DynamicSpecificationBuilder.buildSpecification(filter, metadata);
+    }
+
+    @Benchmark
+    public Predicate predicate() {
+        CriteriaQuery<Order> query = criteriaBuilder.createQuery(Order.class);
+        Root<Order> root = query.from(Order.class);
+        return specification.toPredicate(root, query, criteriaBuilder);
+    }
+
+    private static FilterCriteria criterion(String field, FilterOperator operator, String value, String value2) {
+        return FilterCriteria.builder().field(field).operator(operator).value(value).value2(value2).build();
+    }
+}
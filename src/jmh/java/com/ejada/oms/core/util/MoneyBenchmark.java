@@ -0,0 +1,68 @@
+package com.ejada.oms.core.util;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Order totalling with {@link BigDecimal} arithmetic against {@link Money}: line subtotals,
+ * the order total and tax at 8%, rounded half up to two decimals either way.
+ *
+ * @author Ali Hussein
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class MoneyBenchmark {
+
+    private static final BigDecimal TAX_RATE = new BigDecimal("0.08");
+
+    @Param({"10", "500"})
+    public int lines;
+
+    private BigDecimal[] decimalPrices;
+    private Money[] moneyPrices;
+    private int[] quantities;
+    private long taxRate;
+
+    @Setup(Level.Trial)
+    public void prepare() {
+        Random random = new Random(42);
+        decimalPrices = new BigDecimal[lines];
+        moneyPrices = new Money[lines];
+        quantities = new int[lines];
+        for (int i = 0; i < lines; i++) {
+            decimalPrices[i] = BigDecimal.valueOf(random.nextInt(1_000_000), 2);
+            moneyPrices[i] = Money.of(decimalPrices[i]);
+            quantities[i] = 1 + random.nextInt(20);
+        }
+        taxRate = Money.rateOf(TAX_RATE);
+    }
+
+    @Benchmark
+    public BigDecimal bigDecimal() {
+        BigDecimal total = BigDecimal.ZERO;
+        for (int i = 0; i < lines; i++) {
+            BigDecimal subtotal = decimalPrices[i].multiply(BigDecimal.valueOf(quantities[i]))
+                    .setScale(Money.SCALE, RoundingMode.HALF_UP);
+            total = total.add(subtotal);
+        }
+        BigDecimal tax = total.multiply(TAX_RATE).setScale(Money.SCALE, RoundingMode.HALF_UP);
+        return total.add(tax);
+    }
+
+    @Benchmark
+    public Money money() {
+        Money total = Money.ZERO;
+        for (int i = 0; i < lines; i++) {
+            total = total.plus(moneyPrices[i].times(quantities[i]));
+        }
+        return total.plus(total.timesRate(taxRate));
+    }
+}
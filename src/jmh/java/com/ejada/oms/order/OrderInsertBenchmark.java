@@ -0,0 +1,113 @@
+package com.ejada.oms.order;
+
+import com.ejada.oms.OmsApplication;
+import com.ejada.oms.auth.entity.User;
+import com.ejada.oms.auth.service.UserService;
+import com.ejada.oms.customer.repository.CustomerRepository;
+import com.ejada.oms.order.dto.req.OrderCreateRequest;
+import com.ejada.oms.order.dto.req.OrderItemCreateRequest;
+import com.ejada.oms.order.service.OrderCommandService;
+import com.ejada.oms.product.dto.req.ProductCreateRequest;
+import com.ejada.oms.product.service.ProductCommandService;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Order creation throughput for orders of 1, 10 and 500 lines, end to end through
+ * {@link OrderCommandService#create} against the database configured by the usual
+ * {@code DB_*} environment variables (seed data from the migrations is required).
+ * The {@code rows} counter reports inserted order and order item rows per second.
+ * {@code idStrategy=identity} maps every ID back to {@code IDENTITY} (filled by the column default),
+ * which is what the pooled sequences replaced: Hibernate then inserts row by row to read each ID back
+ * instead of batching the order items.
+ *
+ * @author Ali Hussein
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 10)
+@Fork(1)
+@State(Scope.Benchmark)
+public class OrderInsertBenchmark {
+
+    @Param({"1", "10", "500"})
+    public int lines;
+
+    @Param({"pooled", "identity"})
+    public String idStrategy;
+
+    private ConfigurableApplicationContext context;
+    private OrderCommandService orderCommandService;
+    private OrderCreateRequest request;
+
+    @Setup(Level.Trial)
+    public void start() {
+        SpringApplicationBuilder builder = new SpringApplicationBuilder(OmsApplication.class)
+                .properties("server.port=0", "logging.level.com.ejada.oms=WARN");
+        if ("identity".equals(idStrategy)) {
+            builder.properties("spring.jpa.mapping-resources=META-INF/identity-ids.orm.xml");
+        }
+        context = builder.run();
+        orderCommandService = context.getBean(OrderCommandService.class);
+
+        User admin = context.getBean(UserService.class).findByUsername("admin");
+        SecurityContextHolder.setStrategyName(SecurityContextHolder.MODE_GLOBAL);
+        SecurityContextHolder.getContext().setAuthentication(new UsernamePasswordAuthenticationToken(
+                admin, null, List.of(new SimpleGrantedAuthority("ROLE_" + admin.getRole().name()))));
+
+        ProductCreateRequest product = new ProductCreateRequest();
+        product.setProductName("Benchmark " + UUID.randomUUID());
+        product.setPrice(new BigDecimal("9.99"));
+        product.setStockQuantity(Integer.MAX_VALUE);
+        product.setCategory("Benchmark");
+        Long productId = context.getBean(ProductCommandService.class).create(product).getId();
+        Long customerId = context.getBean(CustomerRepository.class)
+                .findAll(PageRequest.of(0, 1)).getContent().get(0).getId();
+
+        List<OrderItemCreateRequest> items = new ArrayList<>(lines);
+        for (int i = 0; i < lines; i++) {
+            OrderItemCreateRequest item = new OrderItemCreateRequest();
+            item.setProductId(productId);
+            item.setQuantity(1);
+            items.add(item);
+        }
+        request = new OrderCreateRequest();
+        request.setCustomerId(customerId);
+        request.setOrderItems(items);
+    }
+
+    @TearDown(Level.Trial)
+    public void stop() {
+        context.close();
+    }
+
+    @Benchmark
+    public Long createOrder(InsertedRows rows) {
+        Long orderId = orderCommandService.create(request).getId();
+        rows.rows += lines + 1;
+        return orderId;
+    }
+
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.OPERATIONS)
+    public static class InsertedRows {
+        public long rows;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            rows = 0;
+        }
+    }
+}
@@ -2,6 +2,7 @@ package com.ejada.oms.auth.controller;
 
 
 import com.ejada.oms.auth.dto.req.LoginRequest;
+import com.ejada.oms.auth.dto.req.RefreshTokenRequest;
 import com.ejada.oms.auth.dto.res.JwtResponse;
 import com.ejada.oms.auth.service.AuthService;
 import com.ejada.oms.core.dto.ResponseDto;
@@ -12,11 +13,14 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.concurrent.CompletableFuture;
+
 /**
- * Authentication controller for user login
+ * Authentication controller for user login, token refresh and logout
  * 
  * @author Ali Hussein
  */
@@ -34,11 +38,38 @@ public class AuthController {
     @ApiResponses(value = {
         @ApiResponse(responseCode = "200", description = "Login successful"),
         @ApiResponse(responseCode = "401", description = "Invalid credentials"),
-        @ApiResponse(responseCode = "400", description = "Invalid input")
+        @ApiResponse(responseCode = "400", description = "Invalid input"),
+        @ApiResponse(responseCode = "503", description = "Too many logins in progress")
     })
-    public ResponseEntity<ResponseDto<JwtResponse>> login(
+    public CompletableFuture<ResponseEntity<ResponseDto<JwtResponse>>> login(
             @Valid @RequestBody LoginRequest loginRequest) {
-        JwtResponse jwtResponse = authService.login(loginRequest);
-        return ResponseEntity.ok(ResponseDto.success(jwtResponse, "Login successful"));
+        return authService.login(loginRequest)
+                .thenApply(jwtResponse -> ResponseEntity.ok(ResponseDto.success(jwtResponse, "Login successful")));
+    }
+
+    @PostMapping("/refresh")
+    @Operation(summary = "Refresh token", description = "Exchange a refresh token for a new access token and refresh token")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Token refreshed"),
+        @ApiResponse(responseCode = "400", description = "Invalid, expired or reused refresh token")
+    })
+    public ResponseEntity<ResponseDto<JwtResponse>> refresh(
+            @Valid @RequestBody RefreshTokenRequest refreshTokenRequest) {
+        JwtResponse jwtResponse = authService.refresh(refreshTokenRequest);
+        return ResponseEntity.ok(ResponseDto.success(jwtResponse, "Token refreshed"));
+    }
+
+    @PostMapping("/logout")
+    @Operation(summary = "User logout",
+            description = "Revoke the bearer token, and the refresh token if one is sent, so they can no longer be used")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Logout successful"),
+        @ApiResponse(responseCode = "400", description = "Missing, invalid or expired token")
+    })
+    public ResponseEntity<ResponseDto<Void>> logout(
+            @RequestHeader(value = HttpHeaders.AUTHORIZATION, required = false) String authorization,
+            @RequestBody(required = false) RefreshTokenRequest refreshTokenRequest) {
+        authService.logout(authorization, refreshTokenRequest);
+        return ResponseEntity.ok(ResponseDto.success("Logout successful"));
     }
 }
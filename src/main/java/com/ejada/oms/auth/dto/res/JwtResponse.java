@@ -20,6 +20,8 @@ public class JwtResponse {
     private String email;
     private User.UserRole role;
     private Long expiresIn; // milliseconds
+    private String refreshToken;
+    private Long refreshExpiresIn; // milliseconds
 
     public JwtResponse(String token, Long userId, String username, String email, User.UserRole role, Long expiresIn) {
         this.token = token;
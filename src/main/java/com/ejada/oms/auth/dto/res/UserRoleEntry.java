@@ -0,0 +1,11 @@
+package com.ejada.oms.auth.dto.res;
+
+import com.ejada.oms.auth.entity.User.UserRole;
+
+/**
+ * The current role of a recently modified user, as kept in the revocation list.
+ *
+ * @author Ali Hussein
+ */
+public record UserRoleEntry(Long userId, UserRole role) {
+}
@@ -0,0 +1,37 @@
+package com.ejada.oms.auth.entity;
+
+import com.ejada.oms.core.entity.BaseEntity;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * JWT revoked before its expiry, identified by its {@code jti} claim.
+ * Rows are kept until the token would have expired anyway.
+ *
+ * @author Ali Hussein
+ */
+@Entity
+@Table(name = "revoked_token")
+@Data
+@EqualsAndHashCode(callSuper = true)
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@AttributeOverride(name = "id", column = @Column(name = "revoked_token_id"))
+public class RevokedToken extends BaseEntity<Long> {
+
+    @Column(name = "token_id", nullable = false, unique = true, length = 36)
+    private String tokenId;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Column(name = "expires_at", nullable = false)
+    private LocalDateTime expiresAt;
+
+    @Column(name = "revoked_at", nullable = false)
+    @Builder.Default
+    private LocalDateTime revokedAt = LocalDateTime.now();
+}
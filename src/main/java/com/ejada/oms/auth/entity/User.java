@@ -1,5 +1,6 @@
 package com.ejada.oms.auth.entity;
 
+import com.ejada.oms.auth.listener.UserChangeListener;
 import com.ejada.oms.core.entity.AuditableEntity;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.Email;
@@ -13,7 +14,8 @@ import lombok.*;
  * @author Ali Hussein
  */
 @Entity
-@Table(name = "user_table")
+@EntityListeners(UserChangeListener.class)
+@Table(name = "user_table", indexes = @Index(name = "idx_user_role", columnList = "role"))
 @Data
 @EqualsAndHashCode(callSuper = true)
 @NoArgsConstructor
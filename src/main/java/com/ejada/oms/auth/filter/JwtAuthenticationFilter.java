@@ -1,8 +1,11 @@
 package com.ejada.oms.auth.filter;
 
+import com.ejada.oms.auth.service.PrincipalCache;
+import com.ejada.oms.auth.service.RevocationList;
 import com.ejada.oms.auth.service.UserService;
 import com.ejada.oms.auth.entity.User;
 import com.ejada.oms.core.util.JwtUtil;
+import io.jsonwebtoken.Claims;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -21,7 +24,10 @@ import java.util.List;
 
 /**
  * JWT authentication filter for processing Bearer tokens.
- * 
+ * In stateless mode the principal is built from the token claims, so authenticating
+ * a request needs no database access; otherwise the user is loaded through the principal cache.
+ * Either way, revoked tokens and deactivated users are rejected.
+ *
  * @author Ali Hussein
  */
 @RequiredArgsConstructor
@@ -30,6 +36,9 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     private final JwtUtil jwtUtil;
     private final UserService userService;
+    private final PrincipalCache principalCache;
+    private final RevocationList revocationList;
+    private final boolean stateless;
 
     @Override
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
@@ -38,11 +47,16 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         try {
             String jwt = getJwtFromRequest(request);
 
-            if (StringUtils.hasText(jwt) && jwtUtil.validateToken(jwt)) {
-                String username = jwtUtil.getUsernameFromToken(jwt);
-                User user = userService.findByUsername(username);
+            if (StringUtils.hasText(jwt)) {
+                Claims claims = jwtUtil.verify(jwt);
+                String username = claims.getSubject();
+                User user = stateless
+                        ? jwtUtil.toPrincipal(claims)
+                        : principalCache.get(username, userService::findByUsername);
 
-                if (user.getIsActive()) {
+                // A stateless principal carries the role it was issued with, which may since have changed
+                boolean roleOutdated = stateless && revocationList.isRoleOutdated(user.getId(), user.getRole());
+                if (user.getIsActive() && !roleOutdated && !revocationList.isRevoked(claims.getId(), user.getId())) {
                     List<SimpleGrantedAuthority> authorities = List.of(
                             new SimpleGrantedAuthority("ROLE_" + user.getRole().name())
                     );
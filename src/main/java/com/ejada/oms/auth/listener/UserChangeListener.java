@@ -0,0 +1,64 @@
+package com.ejada.oms.auth.listener;
+
+import com.ejada.oms.auth.entity.User;
+import com.ejada.oms.auth.service.PrincipalCache;
+import com.ejada.oms.auth.service.RevocationList;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Evicts the cached principal of a user whose row was updated or deleted through JPA.
+ * Once the change commits, it revokes the tokens of a deactivated or deleted user and records the
+ * user's current role on this node straight away, so a rolled back change revokes nothing.
+ * Bulk JPQL or native updates of {@code user_table} bypass it and are only picked up after
+ * the cache TTL and the next revocation list refresh.
+ *
+ * @author Ali Hussein
+ */
+@Component
+@RequiredArgsConstructor
+public class UserChangeListener {
+
+    private final PrincipalCache principalCache;
+    /** Looked up lazily: the revocation list needs repositories, which need this listener's entity manager factory */
+    private final ObjectProvider<RevocationList> revocationList;
+
+    @PostUpdate
+    public void updated(User user) {
+        principalCache.evict(user.getUsername());
+        Long userId = user.getId();
+        User.UserRole role = user.getRole();
+        boolean deactivated = !user.getIsActive();
+        afterCommit(() -> {
+            revocationList.getObject().recordRole(userId, role);
+            if (deactivated) {
+                revocationList.getObject().revokeUser(userId);
+            }
+        });
+    }
+
+    @PostRemove
+    public void removed(User user) {
+        principalCache.evict(user.getUsername());
+        Long userId = user.getId();
+        afterCommit(() -> revocationList.getObject().revokeUser(userId));
+    }
+
+    private static void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+}
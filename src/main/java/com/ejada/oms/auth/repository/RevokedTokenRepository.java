@@ -0,0 +1,29 @@
+package com.ejada.oms.auth.repository;
+
+import com.ejada.oms.auth.entity.RevokedToken;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Repository for RevokedToken entity operations.
+ *
+ * @author Ali Hussein
+ */
+@Repository
+public interface RevokedTokenRepository extends JpaRepository<RevokedToken, Long> {
+
+    boolean existsByTokenId(String tokenId);
+
+    @Query("select r.tokenId from RevokedToken r where r.expiresAt > :now")
+    List<String> findUnexpiredTokenIds(@Param("now") LocalDateTime now);
+
+    @Modifying
+    @Query("delete from RevokedToken r where r.expiresAt <= :now")
+    int deleteExpired(@Param("now") LocalDateTime now);
+}
@@ -1,9 +1,14 @@
 package com.ejada.oms.auth.repository;
 
+import com.ejada.oms.auth.dto.res.UserRoleEntry;
 import com.ejada.oms.auth.entity.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 
 /**
@@ -18,4 +23,10 @@ public interface UserRepository extends JpaRepository<User, Long> {
     boolean existsByUsername(String username);
     boolean existsByEmail(String email);
 
+    @Query("select u.id from User u where u.isActive = false")
+    List<Long> findInactiveUserIds();
+
+    @Query("select new com.ejada.oms.auth.dto.res.UserRoleEntry(u.id, u.role) from User u where u.modifiedAt > :since")
+    List<UserRoleEntry> findRolesModifiedSince(@Param("since") LocalDateTime since);
+
 }
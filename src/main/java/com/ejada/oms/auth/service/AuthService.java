@@ -1,13 +1,22 @@
 package com.ejada.oms.auth.service;
 
 import com.ejada.oms.auth.dto.req.LoginRequest;
+import com.ejada.oms.auth.dto.req.RefreshTokenRequest;
 import com.ejada.oms.auth.dto.res.JwtResponse;
 import com.ejada.oms.auth.entity.User;
 import com.ejada.oms.core.config.properties.ApplicationProperties;
+import com.ejada.oms.core.exception.BusinessException;
 import com.ejada.oms.core.util.JwtUtil;
+import io.jsonwebtoken.Claims;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
+import org.springframework.util.StringUtils;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 
 /**
  * Service for user authentication and token management.
@@ -21,29 +30,68 @@ public class AuthService {
 
     private final UserService userService;
     private final JwtUtil jwtUtil;
+    private final RevocationList revocationList;
+    private final RefreshTokenService refreshTokenService;
     private final ApplicationProperties applicationProperties;
+    private final Executor applicationTaskExecutor;
 
-    public JwtResponse login(LoginRequest loginRequest) {
+    /**
+     * Completes once the credentials are verified. The refresh token is issued on the application task
+     * executor, so the database write does not hold a password hashing thread.
+     */
+    public CompletableFuture<JwtResponse> login(LoginRequest loginRequest) {
         log.info("Login attempt for username: {}", loginRequest.getUsername());
 
-        // Authenticate user
-        User user = userService.authenticate(loginRequest.getUsername(), loginRequest.getPassword());
+        return userService.authenticate(loginRequest.getUsername(), loginRequest.getPassword())
+                .thenApplyAsync(user -> {
+                    JwtResponse jwtResponse = toResponse(user, refreshTokenService.issue(user));
+                    log.info("User logged in successfully: {}", user.getUsername());
+                    return jwtResponse;
+                }, applicationTaskExecutor);
+    }
+
+    /**
+     * Issues a new access token and rotates the refresh token, without checking the password.
+     */
+    public JwtResponse refresh(RefreshTokenRequest request) {
+        RefreshTokenService.Rotation rotation = refreshTokenService.rotate(request.getRefreshToken());
+        log.debug("Access token refreshed for user: {}", rotation.user().getUsername());
+        return toResponse(rotation.user(), rotation.token());
+    }
+
+    /**
+     * Revokes the bearer token so it is rejected for the rest of its lifetime,
+     * along with the refresh token family when a refresh token is supplied.
+     */
+    public void logout(String authorizationHeader, RefreshTokenRequest refreshTokenRequest) {
+        if (!StringUtils.hasText(authorizationHeader) || !authorizationHeader.startsWith("Bearer ")) {
+            throw BusinessException.invalidToken();
+        }
+        Claims claims = jwtUtil.verify(authorizationHeader.substring(7));
+        Long userId = claims.get("userId", Long.class);
+        if (claims.getId() == null || userId == null) {
+            // Issued before tokens carried an id; it can only be revoked by deactivating the user
+            throw BusinessException.invalidToken();
+        }
 
-        // Generate JWT token
-        String token = jwtUtil.generateToken(user);
+        LocalDateTime expiresAt = LocalDateTime.ofInstant(claims.getExpiration().toInstant(), ZoneId.systemDefault());
+        revocationList.revokeToken(claims.getId(), userId, expiresAt);
+        if (refreshTokenRequest != null && StringUtils.hasText(refreshTokenRequest.getRefreshToken())) {
+            refreshTokenService.revoke(refreshTokenRequest.getRefreshToken());
+        }
+        log.info("User logged out: {}", claims.getSubject());
+    }
 
-        // Create response
-        JwtResponse jwtResponse = JwtResponse.builder()
-                .token(token)
+    private JwtResponse toResponse(User user, String refreshToken) {
+        return JwtResponse.builder()
+                .token(jwtUtil.generateToken(user))
+                .refreshToken(refreshToken)
                 .userId(user.getId())
                 .username(user.getUsername())
                 .email(user.getEmail())
                 .role(user.getRole())
                 .expiresIn(applicationProperties.getSecurity().getJwt().getExpiration())
+                .refreshExpiresIn(applicationProperties.getSecurity().getRefreshToken().getExpiration())
                 .build();
-
-        log.info("User logged in successfully: {}", user.getUsername());
-        return jwtResponse;
     }
-
-}
\ No newline at end of file
+}
@@ -0,0 +1,76 @@
+package com.ejada.oms.auth.service;
+
+import com.ejada.oms.core.config.properties.ApplicationProperties;
+import com.ejada.oms.core.config.properties.ApplicationProperties.SecurityProperties.PasswordHashingProperties;
+import com.ejada.oms.core.exception.BusinessException;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Runs BCrypt hashing and verification on a small dedicated pool with a bounded queue.
+ * A login burst queues here instead of occupying request threads, and once the queue is full
+ * further logins are rejected with {@code 503 AUTHENTICATION_BUSY}.
+ *
+ * @author Ali Hussein
+ */
+@Component
+@Slf4j
+public class PasswordHasher {
+
+    private final PasswordEncoder passwordEncoder;
+    private final ThreadPoolExecutor executor;
+
+    public PasswordHasher(PasswordEncoder passwordEncoder, ApplicationProperties applicationProperties) {
+        this.passwordEncoder = passwordEncoder;
+        PasswordHashingProperties properties = applicationProperties.getSecurity().getPasswordHashing();
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(properties.getThreads(), properties.getThreads(),
+                0L, TimeUnit.MILLISECONDS, new ArrayBlockingQueue<>(properties.getQueueCapacity()),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "password-hashing-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    @PreDestroy
+    void stop() {
+        executor.shutdown();
+    }
+
+    public CompletableFuture<Boolean> matches(String rawPassword, String passwordHash) {
+        return submit(() -> passwordEncoder.matches(rawPassword, passwordHash));
+    }
+
+    /**
+     * Hashes on the pool and waits for the result; callers inside a transaction cannot go asynchronous.
+     */
+    public String encode(String rawPassword) {
+        try {
+            return submit(() -> passwordEncoder.encode(rawPassword)).join();
+        } catch (CompletionException e) {
+            throw e.getCause() instanceof RuntimeException cause ? cause : e;
+        }
+    }
+
+    private <T> CompletableFuture<T> submit(Supplier<T> task) {
+        try {
+            return CompletableFuture.supplyAsync(task, executor);
+        } catch (RejectedExecutionException e) {
+            log.warn("Password hashing queue is full, rejecting request");
+            throw BusinessException.authenticationBusy();
+        }
+    }
+}
@@ -0,0 +1,88 @@
+package com.ejada.oms.auth.service;
+
+import com.ejada.oms.auth.entity.User;
+import com.ejada.oms.core.config.properties.ApplicationProperties;
+import com.ejada.oms.core.config.properties.ApplicationProperties.SecurityProperties.PrincipalCacheProperties;
+import com.ejada.oms.core.util.ExpiringCache;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.function.Function;
+
+/**
+ * Authenticated users by username, so the JWT filter does not read {@code user_table} on every request.
+ * Entries expire after a TTL and are evicted whenever the user row is updated or deleted
+ * (see {@link com.ejada.oms.auth.listener.UserChangeListener}), which covers changes
+ * to {@code isActive} and {@code role}. Cached users are detached and must be treated as read-only.
+ * Backed by an {@link ExpiringCache}, so concurrent requests do not serialize on a cache lock.
+ *
+ * @author Ali Hussein
+ */
+@Component
+@Slf4j
+public class PrincipalCache {
+
+    private final ExpiringCache<String, User> principals;
+    private final long ttlMillis;
+    private final Counter hits;
+    private final Counter misses;
+
+    public PrincipalCache(ApplicationProperties applicationProperties, MeterRegistry meterRegistry) {
+        PrincipalCacheProperties properties = applicationProperties.getSecurity().getPrincipalCache();
+        this.principals = new ExpiringCache<>(properties.getSize());
+        this.ttlMillis = properties.getTtlSeconds() * 1000;
+        this.hits = Counter.builder("oms.auth.principal.cache")
+                .description("Principal lookups served from the cache")
+                .tag("result", "hit")
+                .register(meterRegistry);
+        this.misses = Counter.builder("oms.auth.principal.cache")
+                .description("Principal lookups that had to load the user")
+                .tag("result", "miss")
+                .register(meterRegistry);
+        Gauge.builder("oms.auth.principal.cache.hit.ratio", this, PrincipalCache::hitRatio)
+                .description("Share of principal lookups served from the cache")
+                .register(meterRegistry);
+    }
+
+    /**
+     * @return the cached user, or the one returned by the loader, which is then cached
+     */
+    public User get(String username, Function<String, User> loader) {
+        User user = principals.get(username);
+        if (user != null) {
+            hits.increment();
+            return user;
+        }
+        misses.increment();
+        user = loader.apply(username);
+        principals.put(username, user, System.currentTimeMillis() + ttlMillis);
+        return user;
+    }
+
+    /**
+     * Evicts the user now and, inside a transaction, again once it completes, so a request
+     * that reloads the old row before the commit does not keep it cached until the TTL.
+     */
+    public void evict(String username) {
+        principals.remove(username);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    principals.remove(username);
+                }
+            });
+        }
+        log.debug("Evicted cached principal: {}", username);
+    }
+
+    private double hitRatio() {
+        double total = hits.count() + misses.count();
+        return total == 0 ? 0 : hits.count() / total;
+    }
+}
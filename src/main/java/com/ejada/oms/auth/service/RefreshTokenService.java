@@ -0,0 +1,108 @@
+package com.ejada.oms.auth.service;
+
+import com.ejada.oms.auth.entity.RefreshToken;
+import com.ejada.oms.auth.entity.User;
+import com.ejada.oms.auth.repository.RefreshTokenRepository;
+import com.ejada.oms.core.config.properties.ApplicationProperties;
+import com.ejada.oms.core.exception.BusinessException;
+import com.ejada.oms.core.util.TokenHashing;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Issues and rotates refresh tokens, so clients renew access tokens without a password check.
+ * Only the SHA-256 hash of a token is stored. Every refresh revokes the presented token and issues
+ * a successor in the same family; presenting a revoked token again means it was copied, and the
+ * whole family is revoked.
+ *
+ * @author Ali Hussein
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+@Transactional
+public class RefreshTokenService {
+
+    private static final int TOKEN_BYTES = 32;
+
+    private final RefreshTokenRepository refreshTokenRepository;
+    private final ApplicationProperties applicationProperties;
+
+    /**
+     * Starts a new token family for a user who just logged in.
+     *
+     * @return the raw token for the client
+     */
+    public String issue(User user) {
+        return issue(user, UUID.randomUUID().toString());
+    }
+
+    /**
+     * Exchanges a refresh token for its successor. Reuse detection revokes the family and
+     * must survive the exception it raises, hence no rollback for business errors.
+     */
+    @Transactional(noRollbackFor = BusinessException.class)
+    public Rotation rotate(String rawToken) {
+        RefreshToken token = refreshTokenRepository.findByTokenHash(TokenHashing.sha256(rawToken))
+                .orElseThrow(BusinessException::invalidRefreshToken);
+
+        if (token.isRevoked()) {
+            int revoked = refreshTokenRepository.revokeFamily(token.getFamilyId(), LocalDateTime.now());
+            log.warn("Reuse of refresh token family {} detected, revoked {} tokens", token.getFamilyId(), revoked);
+            throw BusinessException.refreshTokenReused();
+        }
+        if (token.isExpired()) {
+            throw BusinessException.invalidRefreshToken();
+        }
+
+        User user = token.getUser();
+        if (!user.getIsActive()) {
+            throw BusinessException.userInactive();
+        }
+
+        token.setRevokedAt(LocalDateTime.now());
+        return new Rotation(user, issue(user, token.getFamilyId()));
+    }
+
+    /**
+     * Revokes the family of the token, e.g. on logout. Unknown tokens are ignored.
+     */
+    public void revoke(String rawToken) {
+        refreshTokenRepository.findByTokenHash(TokenHashing.sha256(rawToken))
+                .ifPresent(token -> refreshTokenRepository.revokeFamily(token.getFamilyId(), LocalDateTime.now()));
+    }
+
+    @Scheduled(cron = "0 45 * * * *")
+    public void purgeExpired() {
+        int deleted = refreshTokenRepository.deleteExpired(LocalDateTime.now());
+        if (deleted > 0) {
+            log.info("Purged {} expired refresh tokens", deleted);
+        }
+    }
+
+    private String issue(User user, String familyId) {
+        String rawToken = TokenHashing.randomToken(TOKEN_BYTES);
+        refreshTokenRepository.save(RefreshToken.builder()
+                .tokenHash(TokenHashing.sha256(rawToken))
+                .user(user)
+                .familyId(familyId)
+                .expiresAt(LocalDateTime.now().plus(
+                        Duration.ofMillis(applicationProperties.getSecurity().getRefreshToken().getExpiration())))
+                .build());
+        return rawToken;
+    }
+
+    /**
+     * @param user  the owner of the rotated token
+     * @param token the raw successor token for the client
+     */
+    public record Rotation(User user, String token) {
+    }
+}
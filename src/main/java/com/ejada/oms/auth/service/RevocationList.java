@@ -0,0 +1,165 @@
+package com.ejada.oms.auth.service;
+
+import com.ejada.oms.auth.dto.res.UserRoleEntry;
+import com.ejada.oms.auth.entity.RevokedToken;
+import com.ejada.oms.auth.entity.User.UserRole;
+import com.ejada.oms.auth.repository.RevokedTokenRepository;
+import com.ejada.oms.auth.repository.UserRepository;
+import com.ejada.oms.core.config.properties.ApplicationProperties;
+import com.ejada.oms.core.config.properties.ApplicationProperties.SecurityProperties.RevocationProperties;
+import com.ejada.oms.core.util.BloomFilter;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * In-memory list of revoked token ids and deactivated user ids, checked on every authenticated request.
+ * A Bloom filter answers the common "not revoked" case from a compact bit array; only its positives
+ * are confirmed against the exact sets. The snapshot is reloaded from {@code revoked_token} and
+ * {@code user_table} on a short interval; revocations made on this node apply immediately.
+ * It also holds the current role of users modified within the access token lifetime, so stateless
+ * authentication can reject a token whose role claim predates a role change.
+ *
+ * @author Ali Hussein
+ */
+@Service
+@Slf4j
+public class RevocationList {
+
+    private final RevokedTokenRepository revokedTokenRepository;
+    private final UserRepository userRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final RevocationProperties properties;
+    private final long accessTokenLifetimeMs;
+
+    /** Revoked on this node since the snapshot was loaded */
+    private final Set<String> recentTokenIds = ConcurrentHashMap.newKeySet();
+    private final Set<Long> recentUserIds = ConcurrentHashMap.newKeySet();
+    private final Map<Long, UserRole> recentRoles = new ConcurrentHashMap<>();
+
+    private volatile Snapshot snapshot;
+
+    public RevocationList(RevokedTokenRepository revokedTokenRepository, UserRepository userRepository,
+                          TransactionTemplate transactionTemplate, ApplicationProperties applicationProperties) {
+        this.revokedTokenRepository = revokedTokenRepository;
+        this.userRepository = userRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.properties = applicationProperties.getSecurity().getRevocation();
+        this.accessTokenLifetimeMs = applicationProperties.getSecurity().getJwt().getExpiration();
+    }
+
+    @PostConstruct
+    void load() {
+        refresh();
+    }
+
+    /**
+     * @param tokenId the {@code jti} claim, or null for tokens issued without one
+     */
+    public boolean isRevoked(String tokenId, Long userId) {
+        if (tokenId != null && recentTokenIds.contains(tokenId) || recentUserIds.contains(userId)) {
+            return true;
+        }
+        Snapshot current = snapshot;
+        return tokenId != null && current.filter().mightContain(tokenKey(tokenId)) && current.tokenIds().contains(tokenId)
+                || current.filter().mightContain(userKey(userId)) && current.userIds().contains(userId);
+    }
+
+    /**
+     * Records the token as revoked until it expires. Revoking a token twice is a no-op.
+     */
+    public void revokeToken(String tokenId, Long userId, LocalDateTime expiresAt) {
+        if (!revokedTokenRepository.existsByTokenId(tokenId)) {
+            revokedTokenRepository.save(RevokedToken.builder()
+                    .tokenId(tokenId)
+                    .userId(userId)
+                    .expiresAt(expiresAt)
+                    .build());
+        }
+        recentTokenIds.add(tokenId);
+        log.info("Revoked token {} of user ID: {}", tokenId, userId);
+    }
+
+    /**
+     * Rejects every token of a deactivated user on this node until the next refresh,
+     * which picks the deactivation up from {@code user_table}.
+     */
+    public void revokeUser(Long userId) {
+        recentUserIds.add(userId);
+    }
+
+    /**
+     * True when the user's role changed after a token carrying {@code tokenRole} was issued.
+     */
+    public boolean isRoleOutdated(Long userId, UserRole tokenRole) {
+        UserRole current = recentRoles.getOrDefault(userId, snapshot.roles().get(userId));
+        return current != null && current != tokenRole;
+    }
+
+    /**
+     * Records the role of a user updated on this node, ahead of the next refresh.
+     */
+    public void recordRole(Long userId, UserRole role) {
+        recentRoles.put(userId, role);
+    }
+
+    @Scheduled(fixedDelayString = "${app.security.revocation.refresh-interval-ms}",
+               initialDelayString = "${app.security.revocation.refresh-interval-ms}")
+    public synchronized void refresh() {
+        // Taken before reading, so revocations that land during the reload stay in the recent sets
+        Set<String> reloadedTokenIds = Set.copyOf(recentTokenIds);
+        Set<Long> reloadedUserIds = Set.copyOf(recentUserIds);
+        Map<Long, UserRole> reloadedRoles = Map.copyOf(recentRoles);
+
+        List<String> tokenIds = revokedTokenRepository.findUnexpiredTokenIds(LocalDateTime.now());
+        List<Long> userIds = userRepository.findInactiveUserIds();
+        // A token issued before this window has expired, whatever happened to the user's role since
+        List<UserRoleEntry> roles = userRepository.findRolesModifiedSince(
+                LocalDateTime.now().minus(Duration.ofMillis(accessTokenLifetimeMs)));
+
+        BloomFilter filter = new BloomFilter(
+                Math.max(properties.getExpectedEntries(), tokenIds.size() + userIds.size()),
+                properties.getFalsePositiveRate());
+        tokenIds.forEach(tokenId -> filter.add(tokenKey(tokenId)));
+        userIds.forEach(userId -> filter.add(userKey(userId)));
+        Map<Long, UserRole> rolesByUser = new HashMap<>(roles.size() * 2);
+        roles.forEach(entry -> rolesByUser.put(entry.userId(), entry.role()));
+        snapshot = new Snapshot(filter, new HashSet<>(tokenIds), new HashSet<>(userIds), rolesByUser);
+
+        recentTokenIds.removeAll(reloadedTokenIds);
+        recentUserIds.removeAll(reloadedUserIds);
+        reloadedRoles.forEach(recentRoles::remove);
+        log.debug("Loaded revocation list with {} tokens, {} users and {} recent roles",
+                tokenIds.size(), userIds.size(), roles.size());
+    }
+
+    @Scheduled(cron = "0 30 * * * *")
+    public void purgeExpired() {
+        Integer deleted = transactionTemplate.execute(status -> revokedTokenRepository.deleteExpired(LocalDateTime.now()));
+        if (deleted != null && deleted > 0) {
+            log.info("Purged {} expired revoked tokens", deleted);
+        }
+    }
+
+    private static String tokenKey(String tokenId) {
+        return "t:" + tokenId;
+    }
+
+    private static String userKey(Long userId) {
+        return "u:" + userId;
+    }
+
+    private record Snapshot(BloomFilter filter, Set<String> tokenIds, Set<Long> userIds, Map<Long, UserRole> roles) {
+    }
+}
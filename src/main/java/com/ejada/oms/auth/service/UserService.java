@@ -5,10 +5,11 @@ import com.ejada.oms.auth.repository.UserRepository;
 import com.ejada.oms.core.exception.BusinessException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.concurrent.CompletableFuture;
+
 /**
  * Service for user management operations.
  * 
@@ -21,9 +22,14 @@ import org.springframework.transaction.annotation.Transactional;
 public class UserService {
 
     private final UserRepository userRepository;
-    private final PasswordEncoder passwordEncoder;
-
-    public User authenticate(String username, String password) {
+    private final PasswordHasher passwordHasher;
+
+    /**
+     * Loads the user here and checks the password on the hashing pool.
+     *
+     * @return the user, completed once the password has been verified
+     */
+    public CompletableFuture<User> authenticate(String username, String password) {
         log.debug("Authenticating user: {}", username);
 
         User user = userRepository.findByUsername(username)
@@ -33,12 +39,14 @@ public class UserService {
             throw BusinessException.userInactive();
         }
 
-        if (!passwordEncoder.matches(password, user.getPasswordHash())) {
-            throw BusinessException.invalidCredentials();
-        }
-
-        log.info("User authenticated successfully: {}", username);
-        return user;
+        return passwordHasher.matches(password, user.getPasswordHash())
+                .thenApply(matches -> {
+                    if (!matches) {
+                        throw BusinessException.invalidCredentials();
+                    }
+                    log.info("User authenticated successfully: {}", username);
+                    return user;
+                });
     }
 
     public User findByUsername(String username) {
@@ -46,6 +54,12 @@ public class UserService {
                 .orElseThrow(() -> BusinessException.userNotFound(username));
     }
 
+    /**
+     * Reference to a user without loading it, for use as an association target.
+     */
+    public User getReference(Long id) {
+        return userRepository.getReferenceById(id);
+    }
 
     public User createCustomerUser(String username, String email, String password) {
         log.info("Creating customer user: {}", username);
@@ -61,7 +75,7 @@ public class UserService {
         User user = User.builder()
                 .username(username)
                 .email(email)
-                .passwordHash(passwordEncoder.encode(password))
+                .passwordHash(passwordHasher.encode(password))
                 .role(User.UserRole.CUSTOMER)
                 .isActive(true)
                 .build();
@@ -0,0 +1,37 @@
+package com.ejada.oms.core.config;
+
+import org.hibernate.boot.model.FunctionContributions;
+import org.hibernate.boot.model.FunctionContributor;
+import org.hibernate.type.BasicTypeRegistry;
+import org.hibernate.type.StandardBasicTypes;
+
+/**
+ * Registers the PostgreSQL full-text functions used by global search.
+ * {@code search_document} is the SQL function the GIN indexes are built on (see V10), so queries
+ * calling it over the same columns are answered from the index. Queries are parsed with the
+ * {@code simple} configuration to match the indexed documents.
+ *
+ * @author Ali Hussein
+ */
+public class FullTextSearchFunctionContributor implements FunctionContributor {
+
+    @Override
+    public void contributeFunctions(FunctionContributions functionContributions) {
+        BasicTypeRegistry types = functionContributions.getTypeConfiguration().getBasicTypeRegistry();
+
+        functionContributions.getFunctionRegistry().namedDescriptorBuilder("search_document")
+                .setInvariantType(types.resolve(StandardBasicTypes.STRING))
+                .setMinArgumentCount(1)
+                .register();
+        functionContributions.getFunctionRegistry().patternDescriptorBuilder(
+                        "fts_match", "(?1 @@ to_tsquery('simple', ?2))")
+                .setInvariantType(types.resolve(StandardBasicTypes.BOOLEAN))
+                .setExactArgumentCount(2)
+                .register();
+        functionContributions.getFunctionRegistry().patternDescriptorBuilder(
+                        "fts_rank", "ts_rank(?1, to_tsquery('simple', ?2))")
+                .setInvariantType(types.resolve(StandardBasicTypes.DOUBLE))
+                .setExactArgumentCount(2)
+                .register();
+    }
+}
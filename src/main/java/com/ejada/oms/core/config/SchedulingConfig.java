@@ -0,0 +1,14 @@
+package com.ejada.oms.core.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * Enables scheduled background jobs such as the outbox relay.
+ * 
+ * @author Ali Hussein
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
@@ -1,7 +1,10 @@
 package com.ejada.oms.core.config;
 
 import com.ejada.oms.auth.filter.JwtAuthenticationFilter;
+import com.ejada.oms.auth.service.PrincipalCache;
+import com.ejada.oms.auth.service.RevocationList;
 import com.ejada.oms.auth.service.UserService;
+import com.ejada.oms.core.config.properties.ApplicationProperties;
 import com.ejada.oms.core.util.JwtUtil;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -36,8 +39,11 @@ public class SecurityConfig {
     }
 
     @Bean
-    public JwtAuthenticationFilter jwtAuthenticationFilter(JwtUtil jwtUtil, UserService userService) {
-        return new JwtAuthenticationFilter(jwtUtil, userService);
+    public JwtAuthenticationFilter jwtAuthenticationFilter(JwtUtil jwtUtil, UserService userService,
+                                                           PrincipalCache principalCache, RevocationList revocationList,
+                                                           ApplicationProperties applicationProperties) {
+        return new JwtAuthenticationFilter(jwtUtil, userService, principalCache, revocationList,
+                applicationProperties.getSecurity().isStateless());
     }
 
     @Bean
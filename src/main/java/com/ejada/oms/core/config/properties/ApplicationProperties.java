@@ -4,7 +4,9 @@ import lombok.Data;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.stereotype.Component;
 
+import java.math.BigDecimal;
 import java.util.List;
+import java.util.Map;
 
 /**
  * Main application configuration properties
@@ -17,6 +19,13 @@ public class ApplicationProperties {
     private PaginationProperties pagination = new PaginationProperties();
     private ApiProperties api = new ApiProperties();
     private SecurityProperties security = new SecurityProperties();
+    private CustomerProperties customers = new CustomerProperties();
+    private ProductProperties products = new ProductProperties();
+    private OrderProperties orders = new OrderProperties();
+    private InvoiceProperties invoices = new InvoiceProperties();
+    private TransactionProperties transaction = new TransactionProperties();
+    private OutboxProperties outbox = new OutboxProperties();
+    private SearchProperties search = new SearchProperties();
     
     @Data
     public static class PaginationProperties {
@@ -24,6 +33,8 @@ public class ApplicationProperties {
         private int maxPageSize;
         private String defaultSortDirection;
         private List<String> allowedSortProperties;
+        private int countCacheSize;
+        private long countCacheTtlSeconds;
     }
     
     @Data
@@ -44,12 +55,141 @@ public class ApplicationProperties {
     @Data
     public static class SecurityProperties {
         private JwtProperties jwt = new JwtProperties();
+        private PrincipalCacheProperties principalCache = new PrincipalCacheProperties();
+        private boolean stateless;
+        private RevocationProperties revocation = new RevocationProperties();
+        private RefreshTokenProperties refreshToken = new RefreshTokenProperties();
+        private PasswordHashingProperties passwordHashing = new PasswordHashingProperties();
         
         @Data
         public static class JwtProperties {
             private String secret;
             private long expiration;
             private String issuer;
+            private int verifiedCacheSize;
+        }
+
+        @Data
+        public static class PrincipalCacheProperties {
+            private int size;
+            private long ttlSeconds;
+        }
+
+        @Data
+        public static class RevocationProperties {
+            private long refreshIntervalMs;
+            private int expectedEntries;
+            private double falsePositiveRate;
+        }
+
+        @Data
+        public static class RefreshTokenProperties {
+            private long expiration;
+        }
+
+        @Data
+        public static class PasswordHashingProperties {
+            private int threads;
+            private int queueCapacity;
+        }
+    }
+    
+    @Data
+    public static class CustomerProperties {
+        private LookupProperties lookup = new LookupProperties();
+        
+        @Data
+        public static class LookupProperties {
+            private double similarityThreshold;
+            private int minTermLength;
+            private int maxResults;
+        }
+    }
+    
+    @Data
+    public static class ProductProperties {
+        private CatalogCacheProperties catalogCache = new CatalogCacheProperties();
+
+        @Data
+        public static class CatalogCacheProperties {
+            private int size;
+            private long ttlSeconds;
+            private long stockTtlMs;
+        }
+    }
+
+    @Data
+    public static class OrderProperties {
+        private IdempotencyProperties idempotency = new IdempotencyProperties();
+        private IntakeProperties intake = new IntakeProperties();
+        private LargeOrderProperties large = new LargeOrderProperties();
+        
+        @Data
+        public static class IdempotencyProperties {
+            private int cacheSize;
+            private long retentionHours;
+        }
+        
+        @Data
+        public static class IntakeProperties {
+            private boolean enabled;
+            private int queueCapacity;
+            private int workers;
+            private int batchSize;
+            private long resultRetentionSeconds;
+            private long purgeIntervalMs;
+        }
+        
+        @Data
+        public static class LargeOrderProperties {
+            private int chunkSize;
+            private int maxItems;
+        }
+    }
+    
+    @Data
+    public static class InvoiceProperties {
+        private int numberBlockSize;
+        private TaxProperties tax = new TaxProperties();
+        
+        @Data
+        public static class TaxProperties {
+            private BigDecimal defaultRate;
+            private long refreshIntervalMs;
+        }
+    }
+    
+    @Data
+    public static class TransactionProperties {
+        private RetryProperties retry = new RetryProperties();
+        
+        @Data
+        public static class RetryProperties {
+            private int maxAttempts;
+            private long initialBackoffMs;
+            private long maxBackoffMs;
+        }
+    }
+    
+    @Data
+    public static class OutboxProperties {
+        private long pollIntervalMs;
+        private int batchSize;
+        private int maxBatchesPerPoll;
+        private int maxAttempts;
+        private long retryBackoffMs;
+        private long retentionHours;
+    }
+    
+    @Data
+    public static class SearchProperties {
+        /** Global search settings keyed by lower-case entity name */
+        private Map<String, EntitySearchProperties> entities;
+        
+        @Data
+        public static class EntitySearchProperties {
+            private List<String> fields;
+            private boolean fullText;
         }
     }
-}
\ No newline at end of file
+}
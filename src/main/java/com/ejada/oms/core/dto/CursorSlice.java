@@ -0,0 +1,35 @@
+package com.ejada.oms.core.dto;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.SliceImpl;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Slice of a keyset-paginated listing, carrying the token for the next slice.
+ *
+ * @param <T> the type of the content
+ * @author Ali Hussein
+ */
+public class CursorSlice<T> extends SliceImpl<T> {
+
+    private final String nextCursor;
+
+    public CursorSlice(List<T> content, Pageable pageable, String nextCursor) {
+        super(content, pageable, nextCursor != null);
+        this.nextCursor = nextCursor;
+    }
+
+    /**
+     * @return token for the next slice, or null on the last slice
+     */
+    public String getNextCursor() {
+        return nextCursor;
+    }
+
+    @Override
+    public <U> CursorSlice<U> map(Function<? super T, ? extends U> converter) {
+        return new CursorSlice<>(getConvertedContent(converter), getPageable(), nextCursor);
+    }
+}
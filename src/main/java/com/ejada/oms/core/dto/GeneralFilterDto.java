@@ -22,6 +22,11 @@ import java.util.List;
 @Builder
 public class GeneralFilterDto {
     
+    /**
+     * Sort value ordering global search results by full-text rank
+     */
+    public static final String SORT_BY_RELEVANCE = "relevance";
+    
     /**
      * Multiple filter criteria for precise filtering
      */
@@ -50,12 +55,46 @@ public class GeneralFilterDto {
     @Builder.Default
     private String sortDirection = "desc";
     
+    /**
+     * OFFSET uses page/size; CURSOR continues after the row encoded in cursor
+     */
+    @Builder.Default
+    private PaginationMode paginationMode = PaginationMode.OFFSET;
+    
+    /**
+     * Continuation token from the previous cursor page; absent for the first page
+     */
+    private String cursor;
+    
+    /**
+     * How the total element count of an OFFSET page is obtained
+     */
+    @Builder.Default
+    private CountMode countMode = CountMode.EXACT;
+    
+    /**
+     * FULL returns complete responses; SUMMARY selects only the columns of the summary DTO
+     */
+    @Builder.Default
+    private View view = View.FULL;
+    
     /**
      * Create Spring Data Pageable from filter parameters
      */
     public Pageable getPageable() {
-        Sort.Direction direction = "asc".equalsIgnoreCase(sortDirection) ? Sort.Direction.ASC : Sort.Direction.DESC;
-        return PageRequest.of(page, size, Sort.by(new Sort.Order(direction, sortBy).ignoreCase()));
+        if (isSortedByRelevance()) {
+            // The search specification orders by rank itself
+            return PageRequest.of(page, size);
+        }
+        return PageRequest.of(page, size, Sort.by(new Sort.Order(getDirection(), sortBy).ignoreCase()));
+    }
+    
+    public boolean isSortedByRelevance() {
+        return SORT_BY_RELEVANCE.equalsIgnoreCase(sortBy);
+    }
+    
+    public Sort.Direction getDirection() {
+        return "asc".equalsIgnoreCase(sortDirection) ? Sort.Direction.ASC : Sort.Direction.DESC;
     }
     
     /**
@@ -90,6 +129,34 @@ public class GeneralFilterDto {
         private String value2;
     }
     
+    /**
+     * Supported pagination modes
+     */
+    public enum PaginationMode {
+        OFFSET,
+        CURSOR
+    }
+    
+    /**
+     * Supported total count modes
+     */
+    public enum CountMode {
+        /** Run a COUNT query with the page's predicates */
+        EXACT,
+        /** Skip the count and return a slice that only knows whether a next page exists */
+        NONE,
+        /** Planner row estimate for unfiltered listings, otherwise an exact count cached for a short time */
+        ESTIMATED
+    }
+    
+    /**
+     * Supported listing views
+     */
+    public enum View {
+        FULL,
+        SUMMARY
+    }
+    
     /**
      * Supported filter operators
      */
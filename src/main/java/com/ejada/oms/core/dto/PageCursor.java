@@ -0,0 +1,50 @@
+package com.ejada.oms.core.dto;
+
+import com.ejada.oms.core.exception.BusinessException;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.springframework.data.domain.Sort;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * Position in a keyset-paginated listing: the sort key and id of the last row returned.
+ * Travels to clients as an opaque URL-safe token.
+ *
+ * @author Ali Hussein
+ */
+@Getter
+@AllArgsConstructor
+public class PageCursor {
+
+    private static final char SEPARATOR = '|';
+    private static final char NULL_VALUE = '~';
+    private static final char PRESENT_VALUE = '=';
+
+    private final String sortBy;
+    private final Sort.Direction direction;
+    private final String id;
+    /** Last sort key as text, or null when the row's sort key was null */
+    private final String value;
+
+    public String encode() {
+        String raw = sortBy + SEPARATOR + direction.name() + SEPARATOR + id + SEPARATOR
+                + (value == null ? String.valueOf(NULL_VALUE) : PRESENT_VALUE + value);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static PageCursor decode(String token) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\|", 4);
+            if (parts.length != 4 || parts[3].isEmpty()) {
+                throw BusinessException.validationError("Invalid pagination cursor");
+            }
+            String value = parts[3].charAt(0) == NULL_VALUE ? null : parts[3].substring(1);
+            return new PageCursor(parts[0], Sort.Direction.valueOf(parts[1]), parts[2], value);
+        } catch (IllegalArgumentException e) {
+            throw BusinessException.validationError("Invalid pagination cursor");
+        }
+    }
+}
@@ -11,6 +11,8 @@ import java.util.Objects;
 
 /**
  * Base entity for all domain entities with generic ID type.
+ * IDs come from a pooled per-table sequence ({@code <table>_seq}, increment 50),
+ * so Hibernate can assign IDs up front and batch the inserts.
  * 
  * @param <ID> the type of the entity identifier
  * @author Ali Hussein
@@ -25,7 +27,7 @@ public abstract class BaseEntity<ID extends Serializable> implements Serializabl
     private static final long serialVersionUID = 1L;
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE)
     @Column(name = "id")
     private ID id;
 
@@ -0,0 +1,30 @@
+package com.ejada.oms.core.entity;
+
+import com.ejada.oms.core.util.Money;
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+import org.hibernate.annotations.Immutable;
+
+import java.math.BigDecimal;
+
+/**
+ * Maps {@link Money} attributes to {@code NUMERIC(10, 2)} columns, the one place amounts cross
+ * between {@link BigDecimal} and minor units. Marked immutable so Hibernate compares snapshots
+ * with {@code equals} instead of deep-copying every loaded amount for dirty checking.
+ *
+ * @author Ali Hussein
+ */
+@Converter(autoApply = true)
+@Immutable
+public class MoneyConverter implements AttributeConverter<Money, BigDecimal> {
+
+    @Override
+    public BigDecimal convertToDatabaseColumn(Money money) {
+        return money != null ? money.toBigDecimal() : null;
+    }
+
+    @Override
+    public Money convertToEntityAttribute(BigDecimal amount) {
+        return amount != null ? Money.of(amount) : null;
+    }
+}
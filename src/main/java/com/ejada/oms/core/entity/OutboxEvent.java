@@ -0,0 +1,72 @@
+package com.ejada.oms.core.entity;
+
+import com.ejada.oms.core.enums.OutboxEventStatus;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * Event recorded in the same transaction as the change that caused it and delivered
+ * afterwards by the outbox relay.
+ *
+ * @author Ali Hussein
+ */
+@Entity
+@Table(name = "outbox_event")
+@Data
+@EqualsAndHashCode(callSuper = true)
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@AttributeOverride(name = "id", column = @Column(name = "outbox_event_id"))
+public class OutboxEvent extends BaseEntity<Long> {
+
+    @Column(name = "event_type", nullable = false, length = 50)
+    private String eventType;
+
+    @Column(name = "aggregate_id", nullable = false)
+    private Long aggregateId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "event_status", nullable = false, length = 20)
+    @Builder.Default
+    private OutboxEventStatus eventStatus = OutboxEventStatus.PENDING;
+
+    @Column(name = "attempts", nullable = false)
+    @Builder.Default
+    private Integer attempts = 0;
+
+    @Column(name = "last_error", length = 500)
+    private String lastError;
+
+    @Column(name = "created_at", nullable = false)
+    @Builder.Default
+    private LocalDateTime createdAt = LocalDateTime.now();
+
+    @Column(name = "available_at", nullable = false)
+    @Builder.Default
+    private LocalDateTime availableAt = LocalDateTime.now();
+
+    @Column(name = "processed_at")
+    private LocalDateTime processedAt;
+
+    public void markProcessed() {
+        this.eventStatus = OutboxEventStatus.PROCESSED;
+        this.processedAt = LocalDateTime.now();
+        this.lastError = null;
+    }
+
+    /**
+     * Records a failed delivery and schedules the next attempt, or gives up once attempts are exhausted.
+     */
+    public void markFailed(String error, int maxAttempts, LocalDateTime retryAt) {
+        this.attempts++;
+        this.lastError = error != null && error.length() > 500 ? error.substring(0, 500) : error;
+        if (attempts >= maxAttempts) {
+            this.eventStatus = OutboxEventStatus.FAILED;
+        } else {
+            this.availableAt = retryAt;
+        }
+    }
+}
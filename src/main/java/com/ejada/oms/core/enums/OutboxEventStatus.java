@@ -0,0 +1,14 @@
+package com.ejada.oms.core.enums;
+
+/**
+ * Delivery state of an outbox event.
+ */
+public enum OutboxEventStatus {
+
+    /** Waiting for the relay, possibly after a failed attempt */
+    PENDING,
+    /** Delivered to its handler */
+    PROCESSED,
+    /** Gave up after the maximum number of attempts */
+    FAILED
+}
@@ -55,6 +55,20 @@ public class BusinessException extends RuntimeException {
         return new BusinessException("INVALID_TOKEN", "Invalid JWT token");
     }
 
+    public static BusinessException invalidRefreshToken() {
+        return new BusinessException("INVALID_REFRESH_TOKEN", "Invalid or expired refresh token");
+    }
+
+    public static BusinessException refreshTokenReused() {
+        return new BusinessException("REFRESH_TOKEN_REUSED",
+                "Refresh token was already used; all tokens of this session have been revoked");
+    }
+
+    public static BusinessException authenticationBusy() {
+        return new BusinessException("AUTHENTICATION_BUSY", "Too many logins in progress, please retry later",
+                HttpStatus.SERVICE_UNAVAILABLE);
+    }
+
     public static BusinessException accessDenied(String message) {
         return new BusinessException("ACCESS_DENIED", message);
     }
@@ -87,6 +101,10 @@ public class BusinessException extends RuntimeException {
         return new BusinessException("CUSTOMER_NOT_FOUND", "Customer not found with ID: " + id);
     }
 
+    public static BusinessException customerHasNoAddress(Long id) {
+        return new BusinessException("CUSTOMER_NO_ADDRESS", "Customer has no shipping address, ID: " + id);
+    }
+
     public static BusinessException mobileAlreadyExists(String mobile) {
         return new BusinessException("MOBILE_EXISTS", "Mobile number already exists: " + mobile);
     }
@@ -121,6 +139,27 @@ public class BusinessException extends RuntimeException {
         return new BusinessException("INVALID_ORDER_STATUS", message);
     }
 
+    public static BusinessException idempotencyKeyReused(String idempotencyKey) {
+        return new BusinessException("IDEMPOTENCY_KEY_REUSED",
+                "Idempotency-Key " + idempotencyKey + " was already used for a different request",
+                HttpStatus.UNPROCESSABLE_ENTITY);
+    }
+
+    public static BusinessException orderIntakeDisabled() {
+        return new BusinessException("ORDER_INTAKE_DISABLED", "Asynchronous order intake is disabled",
+                HttpStatus.SERVICE_UNAVAILABLE);
+    }
+
+    public static BusinessException orderIntakeQueueFull() {
+        return new BusinessException("ORDER_INTAKE_QUEUE_FULL", "Order intake queue is full, please retry later",
+                HttpStatus.SERVICE_UNAVAILABLE);
+    }
+
+    public static BusinessException orderIntakeTicketNotFound(String ticketId) {
+        return new BusinessException("INTAKE_TICKET_NOT_FOUND", "Order intake ticket not found: " + ticketId,
+                HttpStatus.NOT_FOUND);
+    }
+
     // =========================================================================
     // INVOICE MANAGEMENT EXCEPTIONS
     // =========================================================================
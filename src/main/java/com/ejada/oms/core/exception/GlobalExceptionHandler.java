@@ -2,6 +2,7 @@ package com.ejada.oms.core.exception;
 
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.ConcurrencyFailureException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.http.converter.HttpMessageNotReadableException;
@@ -118,6 +119,27 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(friendlyException.getHttpStatus()).body(errorResponse);
     }
 
+    /**
+     * Handle concurrency conflicts: optimistic locking failures and deadlocks that outlasted their retries
+     */
+    @ExceptionHandler(ConcurrencyFailureException.class)
+    public ResponseEntity<ErrorResponse> handleConcurrencyFailureException(
+            ConcurrencyFailureException ex, WebRequest request) {
+
+        log.warn("Concurrent modification detected: {}", ex.getMessage());
+
+        ErrorResponse errorResponse = ErrorResponse.builder()
+                .timestamp(LocalDateTime.now())
+                .status(HttpStatus.CONFLICT.value())
+                .error(HttpStatus.CONFLICT.getReasonPhrase())
+                .message("The resource was modified concurrently, please retry the request")
+                .errorCode("CONCURRENT_MODIFICATION")
+                .path(getPath(request))
+                .build();
+
+        return ResponseEntity.status(HttpStatus.CONFLICT).body(errorResponse);
+    }
+
     /**
      * Handle validation errors from @Valid annotations
      */
@@ -0,0 +1,62 @@
+package com.ejada.oms.core.repository;
+
+import com.ejada.oms.core.exception.BusinessException;
+
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * Association a client can ask to be included in a response with {@code ?expand=}.
+ * Each expansion names the attribute paths that must be fetched to map it.
+ *
+ * @author Ali Hussein
+ */
+public interface Expansion {
+
+    /**
+     * Name used in the {@code expand} request parameter
+     */
+    String getParameter();
+
+    /**
+     * Attribute paths to fetch, e.g. {@code customer.user}
+     */
+    List<String> getAttributePaths();
+
+    /**
+     * Collections are batch-fetched in listings instead of joined, so pages stay paginated in SQL
+     */
+    boolean isCollection();
+
+    /**
+     * Parses a comma-separated {@code expand} value. An absent parameter expands everything,
+     * an empty one expands nothing.
+     */
+    static <E extends Enum<E> & Expansion> Set<E> parse(Class<E> type, String expand) {
+        if (expand == null) {
+            return EnumSet.allOf(type);
+        }
+        Set<E> expansions = EnumSet.noneOf(type);
+        for (String name : expand.split(",")) {
+            String parameter = name.trim();
+            if (parameter.isEmpty()) {
+                continue;
+            }
+            E expansion = null;
+            for (E candidate : type.getEnumConstants()) {
+                if (candidate.getParameter().equalsIgnoreCase(parameter)) {
+                    expansion = candidate;
+                }
+            }
+            if (expansion == null) {
+                throw BusinessException.validationError("Cannot expand '" + parameter + "'; supported: "
+                        + EnumSet.allOf(type).stream().map(Expansion::getParameter).toList()
+                        .toString().toLowerCase(Locale.ROOT));
+            }
+            expansions.add(expansion);
+        }
+        return expansions;
+    }
+}
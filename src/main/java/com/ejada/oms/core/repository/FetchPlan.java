@@ -0,0 +1,88 @@
+package com.ejada.oms.core.repository;
+
+import jakarta.persistence.EntityGraph;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Subgraph;
+import lombok.Getter;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Named set of associations to load together with an entity, applied as a JPA fetch graph.
+ * Listing plans leave collections out of the graph; they are loaded in batches
+ * ({@code hibernate.default_batch_fetch_size}) so pagination still happens in SQL.
+ *
+ * @author Ali Hussein
+ */
+@Getter
+public final class FetchPlan {
+
+    public static final String FETCH_GRAPH_HINT = "jakarta.persistence.fetchgraph";
+
+    public static final FetchPlan NONE = new FetchPlan("none", Set.of());
+
+    private final String name;
+    private final Set<String> attributePaths;
+
+    private FetchPlan(String name, Set<String> attributePaths) {
+        this.name = name;
+        this.attributePaths = attributePaths;
+    }
+
+    /**
+     * Plan for a page of entities: to-one associations of the expansions plus the required paths.
+     */
+    public static FetchPlan listing(String name, Collection<? extends Expansion> expansions, String... requiredPaths) {
+        return of(name, expansions, false, requiredPaths);
+    }
+
+    /**
+     * Plan for a single entity: every path of the expansions, collections included.
+     */
+    public static FetchPlan detail(String name, Collection<? extends Expansion> expansions, String... requiredPaths) {
+        return of(name, expansions, true, requiredPaths);
+    }
+
+    private static FetchPlan of(String name, Collection<? extends Expansion> expansions,
+                                boolean includeCollections, String... requiredPaths) {
+        Set<String> paths = new LinkedHashSet<>(List.of(requiredPaths));
+        for (Expansion expansion : expansions) {
+            if (includeCollections || !expansion.isCollection()) {
+                paths.addAll(expansion.getAttributePaths());
+            }
+        }
+        return new FetchPlan(name, Set.copyOf(paths));
+    }
+
+    public <T> EntityGraph<T> toEntityGraph(EntityManager entityManager, Class<T> entityClass) {
+        EntityGraph<T> graph = entityManager.createEntityGraph(entityClass);
+        Map<String, Subgraph<?>> subgraphs = new HashMap<>();
+        for (String path : attributePaths) {
+            subgraph(graph, subgraphs, path);
+        }
+        return graph;
+    }
+
+    private static Subgraph<?> subgraph(EntityGraph<?> graph, Map<String, Subgraph<?>> subgraphs, String path) {
+        Subgraph<?> existing = subgraphs.get(path);
+        if (existing != null) {
+            return existing;
+        }
+        int dot = path.lastIndexOf('.');
+        Subgraph<?> created = dot < 0
+                ? graph.addSubgraph(path)
+                : subgraph(graph, subgraphs, path.substring(0, dot)).addSubgraph(path.substring(dot + 1));
+        subgraphs.put(path, created);
+        return created;
+    }
+
+    @Override
+    public String toString() {
+        return name + attributePaths;
+    }
+}
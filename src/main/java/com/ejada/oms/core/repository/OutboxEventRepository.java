@@ -0,0 +1,33 @@
+package com.ejada.oms.core.repository;
+
+import com.ejada.oms.core.entity.OutboxEvent;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Repository for OutboxEvent entity operations.
+ *
+ * @author Ali Hussein
+ */
+@Repository
+public interface OutboxEventRepository extends JpaRepository<OutboxEvent, Long> {
+
+    /**
+     * Claims due pending events; rows locked by another relay instance are skipped rather than waited on.
+     */
+    @Query(value = "SELECT * FROM outbox_event WHERE event_status = 'PENDING' AND available_at <= CURRENT_TIMESTAMP " +
+                   "ORDER BY available_at, outbox_event_id LIMIT :limit FOR UPDATE SKIP LOCKED",
+           nativeQuery = true)
+    List<OutboxEvent> claimPending(@Param("limit") int limit);
+
+    @Modifying
+    @Query("DELETE FROM OutboxEvent e WHERE e.eventStatus = com.ejada.oms.core.enums.OutboxEventStatus.PROCESSED " +
+           "AND e.processedAt < :cutoff")
+    int deleteProcessedBefore(@Param("cutoff") LocalDateTime cutoff);
+}
@@ -0,0 +1,27 @@
+package com.ejada.oms.core.repository;
+
+import jakarta.persistence.Tuple;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Selection;
+
+import java.util.List;
+
+/**
+ * Columns a summary view of an entity needs and how to turn a result row into the summary DTO.
+ * Listing queries select only these columns, joining to-one associations in the same statement,
+ * so no entity is loaded and no lazy association is touched.
+ *
+ * @param <T> the entity type
+ * @param <S> the summary DTO type
+ * @author Ali Hussein
+ */
+public interface SummaryProjection<T, S> {
+
+    /**
+     * Selections in the order {@link #map(Tuple)} reads them by index.
+     */
+    List<Selection<?>> select(Root<T> root, CriteriaBuilder cb);
+
+    S map(Tuple tuple);
+}
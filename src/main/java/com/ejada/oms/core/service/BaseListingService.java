@@ -1,16 +1,54 @@
 package com.ejada.oms.core.service;
 
+import com.ejada.oms.core.config.properties.ApplicationProperties;
+import com.ejada.oms.core.dto.CursorSlice;
 import com.ejada.oms.core.dto.GeneralFilterDto;
+import com.ejada.oms.core.dto.GeneralFilterDto.CountMode;
+import com.ejada.oms.core.dto.GeneralFilterDto.PaginationMode;
+import com.ejada.oms.core.dto.PageCursor;
+import com.ejada.oms.core.exception.BusinessException;
 import com.ejada.oms.core.specification.DynamicSpecificationBuilder;
+import com.ejada.oms.core.repository.FetchPlan;
+import com.ejada.oms.core.repository.SummaryProjection;
+import com.ejada.oms.core.specification.EntityFilterMetadata;
+import com.ejada.oms.core.specification.FilterField;
+import com.ejada.oms.core.specification.FilterMetadataRegistry;
+import com.ejada.oms.core.util.LruCache;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Table;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Expression;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Selection;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.BeanWrapperImpl;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.support.PageableExecutionUtils;
+import org.springframework.util.StringUtils;
 
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.BiFunction;
 
 /**
  * Base service class for listing operations with pagination and sorting.
@@ -20,25 +58,295 @@ import java.util.List;
 @RequiredArgsConstructor
 public abstract class BaseListingService<T, ID> {
 
+    private ApplicationProperties applicationProperties;
+    private LruCache<String, Long> countCache;
+    private FilterMetadataRegistry filterMetadataRegistry;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
     protected abstract JpaRepository<T, ID> getRepository();
     protected abstract JpaSpecificationExecutor<T> getSpecificationRepository();
     protected abstract Class<T> getEntityClass();
 
+    @Autowired
+    public void setApplicationProperties(ApplicationProperties applicationProperties) {
+        this.applicationProperties = applicationProperties;
+        this.countCache = new LruCache<>(applicationProperties.getPagination().getCountCacheSize());
+    }
+
+    @Autowired
+    public void setFilterMetadataRegistry(FilterMetadataRegistry filterMetadataRegistry) {
+        this.filterMetadataRegistry = filterMetadataRegistry;
+    }
+
+    protected EntityFilterMetadata getFilterMetadata() {
+        return filterMetadataRegistry.forEntity(getEntityClass());
+    }
+
     /**
-     * Find all entities with GeneralFilterDto using dynamic specifications
+     * Find all entities with GeneralFilterDto using dynamic specifications.
+     * Returns a {@link Page} in OFFSET mode (a plain {@link Slice} when the count is skipped)
+     * and a {@link CursorSlice} in CURSOR mode.
      */
-    public Page<T> findAll(GeneralFilterDto filterDto) {
-        log.debug("Finding all entities with GeneralFilterDto: {}", filterDto);
+    public Slice<T> findAll(GeneralFilterDto filterDto) {
+        return findAll(filterDto, FetchPlan.NONE);
+    }
+
+    /**
+     * {@link #findAll(GeneralFilterDto)} loading the associations of the fetch plan with each page.
+     */
+    public Slice<T> findAll(GeneralFilterDto filterDto, FetchPlan fetchPlan) {
+        log.debug("Finding all entities with GeneralFilterDto: {}, fetch plan: {}", filterDto, fetchPlan);
+        Collection<String> fetchPaths = fetchPlan.getAttributePaths();
 
-        Specification<T> spec = DynamicSpecificationBuilder.buildSpecification(filterDto, getEntityClass());
+        if (filterDto.getPaginationMode() == PaginationMode.CURSOR) {
+            return findAllByCursor(filterDto, fetchPaths);
+        }
+
+        Specification<T> spec = DynamicSpecificationBuilder.buildSpecification(filterDto, getFilterMetadata());
         Pageable pageable = filterDto.getPageable();
-        Page<T> result = getSpecificationRepository().findAll(spec, pageable);
-        
+
+        if (filterDto.getCountMode() == CountMode.NONE) {
+            Slice<T> slice = getSpecificationRepository().findBy(spec, query -> query.project(fetchPaths).slice(pageable));
+            log.debug("Found {} entities without count, hasNext: {}", slice.getNumberOfElements(), slice.hasNext());
+            return slice;
+        }
+
+        if (filterDto.getCountMode() == CountMode.ESTIMATED) {
+            Slice<T> slice = getSpecificationRepository().findBy(spec, query -> query.project(fetchPaths).slice(pageable));
+            // Never report fewer rows than the ones already seen
+            long seen = pageable.getOffset() + slice.getNumberOfElements() + (slice.hasNext() ? 1 : 0);
+            long total = Math.max(estimateCount(filterDto, spec), seen);
+            log.debug("Found {} entities out of about {} total", slice.getNumberOfElements(), total);
+            return new PageImpl<>(slice.getContent(), pageable, total);
+        }
+
+        Page<T> result = getSpecificationRepository().findBy(spec, query -> query.project(fetchPaths).page(pageable));
+
         log.debug("Found {} entities out of {} total", result.getNumberOfElements(), result.getTotalElements());
         return result;
     }
 
+    /**
+     * Unfiltered listings use the planner's row estimate for the table; filtered listings use an
+     * exact count cached per normalized filter for a short time.
+     */
+    private long estimateCount(GeneralFilterDto filterDto, Specification<T> spec) {
+        boolean unfiltered = (filterDto.getFilters() == null || filterDto.getFilters().isEmpty())
+                && !StringUtils.hasText(filterDto.getGlobalSearch());
+        Table table = getEntityClass().getAnnotation(Table.class);
+        if (unfiltered && table != null) {
+            List<?> rows = entityManager
+                    .createNativeQuery("SELECT CAST(reltuples AS BIGINT) FROM pg_class WHERE oid = to_regclass(:table)")
+                    .setParameter("table", table.name())
+                    .getResultList();
+            Number estimate = rows.isEmpty() ? null : (Number) rows.get(0);
+            // reltuples is -1 until the table has been analyzed
+            if (estimate != null && estimate.longValue() >= 0) {
+                return estimate.longValue();
+            }
+        }
+
+        String key = countCacheKey(filterDto);
+        Long cached = countCache.get(key);
+        if (cached != null) {
+            return cached;
+        }
+        long count = getSpecificationRepository().count(spec);
+        long ttlMillis = applicationProperties.getPagination().getCountCacheTtlSeconds() * 1000;
+        countCache.put(key, count, System.currentTimeMillis() + ttlMillis);
+        return count;
+    }
+
+    private String countCacheKey(GeneralFilterDto filterDto) {
+        StringBuilder key = new StringBuilder(getEntityClass().getSimpleName());
+        if (filterDto.getFilters() != null) {
+            filterDto.getFilters().stream()
+                    .map(criteria -> criteria.getField() + ' ' + criteria.getOperator() + ' '
+                            + criteria.getValue() + ' ' + criteria.getValue2())
+                    .sorted()
+                    .forEach(criteria -> key.append('|').append(criteria));
+        }
+        if (StringUtils.hasText(filterDto.getGlobalSearch())) {
+            key.append("|search ").append(filterDto.getGlobalSearch().trim().toLowerCase(Locale.ROOT));
+        }
+        return key.toString();
+    }
+
+    /**
+     * Keyset pagination: seeks past the (sortBy, id) position in the cursor instead of skipping
+     * rows, so every page costs the same however deep the client has walked.
+     */
+    private CursorSlice<T> findAllByCursor(GeneralFilterDto filterDto, Collection<String> fetchPaths) {
+        String sortBy = filterDto.getSortBy();
+        if (!applicationProperties.getPagination().getAllowedSortProperties().contains(sortBy)) {
+            throw BusinessException.validationError("Sorting by '" + sortBy + "' is not supported");
+        }
+        Sort.Direction direction = filterDto.getDirection();
+        int size = Math.min(filterDto.getSize(), applicationProperties.getPagination().getMaxPageSize());
+
+        Specification<T> spec = DynamicSpecificationBuilder.buildSpecification(filterDto, getFilterMetadata());
+        PageCursor cursor = decodeCursor(filterDto);
+
+        Sort sort = Sort.by(direction, sortBy).and(Sort.by(direction, "id"));
+        List<T> rows = seekPage(spec, cursor, getFilterMetadata(), size + 1, (pageSpec, limit) -> getSpecificationRepository()
+                .findBy(pageSpec, query -> query.project(fetchPaths).sortBy(sort).limit(limit).all()));
+
+        boolean hasNext = rows.size() > size;
+        List<T> content = hasNext ? rows.subList(0, size) : rows;
+        String nextCursor = hasNext ? cursorAfter(content.get(content.size() - 1), sortBy, direction) : null;
+
+        log.debug("Found {} entities in cursor mode, hasNext: {}", content.size(), hasNext);
+        return new CursorSlice<>(content, PageRequest.of(0, size, sort), nextCursor);
+    }
+
+    private PageCursor decodeCursor(GeneralFilterDto filterDto) {
+        if (filterDto.getCursor() == null) {
+            return null;
+        }
+        PageCursor cursor = PageCursor.decode(filterDto.getCursor());
+        if (!cursor.getSortBy().equals(filterDto.getSortBy()) || cursor.getDirection() != filterDto.getDirection()) {
+            throw BusinessException.validationError("Cursor does not match the requested sort");
+        }
+        return cursor;
+    }
+
+    /**
+     * Reads up to {@code limit} rows after the cursor. Rows with and without a sort key are sought
+     * separately, so each query stays a range scan on the (sortBy, id) index: when the cursor's group
+     * runs out, the page is topped up from the start of the following group.
+     */
+    private <R> List<R> seekPage(Specification<T> spec, PageCursor cursor, EntityFilterMetadata metadata, int limit,
+                                 BiFunction<Specification<T>, Integer, List<R>> fetch) {
+        if (cursor == null) {
+            return fetch.apply(spec, limit);
+        }
+        List<R> rows = fetch.apply(spec.and(DynamicSpecificationBuilder.buildSeekSpecification(cursor, metadata)), limit);
+        Specification<T> nextGroup = DynamicSpecificationBuilder.buildSeekNextGroupSpecification(cursor, metadata);
+        if (rows.size() == limit || nextGroup == null) {
+            return rows;
+        }
+        List<R> combined = new ArrayList<>(rows);
+        combined.addAll(fetch.apply(spec.and(nextGroup), limit - rows.size()));
+        return combined;
+    }
+
+    private String cursorAfter(T entity, String sortBy, Sort.Direction direction) {
+        BeanWrapperImpl wrapper = new BeanWrapperImpl(entity);
+        return cursorAt(sortBy, direction, wrapper.getPropertyValue(sortBy), wrapper.getPropertyValue("id"));
+    }
+
+    private static String cursorAt(String sortBy, Sort.Direction direction, Object value, Object id) {
+        String encodedValue = value == null ? null : value instanceof Enum<?> e ? e.name() : value.toString();
+        return new PageCursor(sortBy, direction, String.valueOf(id), encodedValue).encode();
+    }
+
+    /**
+     * Summary view of {@link #findAll(GeneralFilterDto)}: same filters, pagination and count modes,
+     * but one statement selecting only the projection's columns instead of entities that are
+     * mapped afterwards.
+     */
+    public <S> Slice<S> findAll(GeneralFilterDto filterDto, SummaryProjection<T, S> projection) {
+        log.debug("Finding {} summaries with GeneralFilterDto: {}", getEntityClass().getSimpleName(), filterDto);
+        EntityFilterMetadata metadata = getFilterMetadata();
+        boolean cursorMode = filterDto.getPaginationMode() == PaginationMode.CURSOR;
+        String sortBy = filterDto.getSortBy();
+        Sort.Direction direction = filterDto.getDirection();
+
+        FilterField sortField = filterDto.isSortedByRelevance() ? null : metadata.field(sortBy);
+        if (!filterDto.isSortedByRelevance() && sortField == null
+                || cursorMode && !applicationProperties.getPagination().getAllowedSortProperties().contains(sortBy)) {
+            throw BusinessException.validationError("Sorting by '" + sortBy + "' is not supported");
+        }
+
+        Specification<T> spec = DynamicSpecificationBuilder.buildSpecification(filterDto, metadata);
+
+        if (cursorMode) {
+            int size = Math.min(filterDto.getSize(), applicationProperties.getPagination().getMaxPageSize());
+            List<Tuple> rows = seekPage(spec, decodeCursor(filterDto), metadata, size + 1, (pageSpec, limit) ->
+                    selectSummaries(pageSpec, projection, sortField, direction, false, 0, limit));
+            boolean hasNext = rows.size() > size;
+            List<Tuple> content = hasNext ? rows.subList(0, size) : rows;
+            String nextCursor = null;
+            if (hasNext) {
+                Tuple last = content.get(content.size() - 1);
+                int columns = last.getElements().size();
+                nextCursor = cursorAt(sortBy, direction, last.get(columns - 2), last.get(columns - 1));
+            }
+            Sort sort = Sort.by(direction, sortBy).and(Sort.by(direction, "id"));
+            return new CursorSlice<>(content.stream().map(projection::map).toList(),
+                    PageRequest.of(0, size, sort), nextCursor);
+        }
 
+        Pageable pageable = filterDto.getPageable();
+        boolean counted = filterDto.getCountMode() == CountMode.EXACT;
+        int limit = counted ? pageable.getPageSize() : pageable.getPageSize() + 1;
+        List<Tuple> rows = selectSummaries(spec, projection, sortField, direction, true,
+                (int) pageable.getOffset(), limit);
+        boolean hasNext = rows.size() > pageable.getPageSize();
+        List<S> content = (hasNext ? rows.subList(0, pageable.getPageSize()) : rows).stream()
+                .map(projection::map)
+                .toList();
+
+        if (counted) {
+            Specification<T> countSpec = spec;
+            return PageableExecutionUtils.getPage(content, pageable, () -> getSpecificationRepository().count(countSpec));
+        }
+        if (filterDto.getCountMode() == CountMode.ESTIMATED) {
+            long seen = pageable.getOffset() + content.size() + (hasNext ? 1 : 0);
+            return new PageImpl<>(content, pageable, Math.max(estimateCount(filterDto, spec), seen));
+        }
+        return new SliceImpl<>(content, pageable, hasNext);
+    }
+
+    /**
+     * Tuple query over the projection's columns. The sort key and id are appended as the last two
+     * columns so a cursor can be built from the last row. Relevance ordering is set by the search
+     * specification itself.
+     */
+    private <S> List<Tuple> selectSummaries(Specification<T> spec, SummaryProjection<T, S> projection,
+                                            FilterField sortField, Sort.Direction direction,
+                                            boolean ignoreCase, int offset, int limit) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> query = cb.createTupleQuery();
+        Root<T> root = query.from(getEntityClass());
+
+        List<Selection<?>> selections = new ArrayList<>(projection.select(root, cb));
+        Path<?> idPath = root.get("id");
+        if (sortField != null) {
+            Path<?> sortPath = sortField.resolve(root);
+            selections.add(sortPath);
+            selections.add(idPath);
+            Expression<?> sortKey = ignoreCase && sortField.isText() ? cb.lower(asText(sortPath)) : sortPath;
+            query.orderBy(direction.isAscending() ? cb.asc(sortKey) : cb.desc(sortKey),
+                    direction.isAscending() ? cb.asc(idPath) : cb.desc(idPath));
+        }
+        query.multiselect(selections);
+
+        Predicate predicate = spec.toPredicate(root, query, cb);
+        if (predicate != null) {
+            query.where(predicate);
+        }
+        return entityManager.createQuery(query)
+                .setFirstResult(offset)
+                .setMaxResults(limit)
+                .getResultList();
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Expression<String> asText(Path<?> path) {
+        return (Expression<String>) path;
+    }
+
+    /**
+     * Find an entity by ID with the associations of the fetch plan loaded in the same query.
+     */
+    public Optional<T> fetchById(ID id, FetchPlan fetchPlan) {
+        log.debug("Finding {} {} with fetch plan {}", getEntityClass().getSimpleName(), id, fetchPlan);
+        Map<String, Object> hints = Map.of(FetchPlan.FETCH_GRAPH_HINT, fetchPlan.toEntityGraph(entityManager, getEntityClass()));
+        return Optional.ofNullable(entityManager.find(getEntityClass(), id, hints));
+    }
 
     /**
      * Find all entities without pagination
@@ -50,4 +358,4 @@ public abstract class BaseListingService<T, ID> {
 
 
 
-}
\ No newline at end of file
+}
@@ -0,0 +1,16 @@
+package com.ejada.oms.core.service;
+
+import com.ejada.oms.core.entity.OutboxEvent;
+
+/**
+ * Consumer of outbox events. Delivery is at least once, so handlers must tolerate
+ * seeing the same event again after a crash or a failed attempt.
+ *
+ * @author Ali Hussein
+ */
+public interface OutboxEventHandler {
+
+    boolean supports(String eventType);
+
+    void handle(OutboxEvent event);
+}
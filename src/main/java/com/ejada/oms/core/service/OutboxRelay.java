@@ -0,0 +1,86 @@
+package com.ejada.oms.core.service;
+
+import com.ejada.oms.core.config.properties.ApplicationProperties;
+import com.ejada.oms.core.config.properties.ApplicationProperties.OutboxProperties;
+import com.ejada.oms.core.entity.OutboxEvent;
+import com.ejada.oms.core.repository.OutboxEventRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Delivers outbox events to their handlers off the request thread.
+ * Each poll claims a batch of due events with {@code FOR UPDATE SKIP LOCKED}, so several
+ * application instances can relay concurrently without delivering the same row twice at once.
+ * Handlers run in their own transactions; a failed event is retried with growing backoff
+ * until the attempt limit is reached. Delivery is at least once. A poll drains at most
+ * {@code max-batches-per-poll} full batches, so a backlog does not hold a scheduler thread indefinitely.
+ *
+ * @author Ali Hussein
+ */
+@Component
+@Slf4j
+public class OutboxRelay {
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final List<OutboxEventHandler> handlers;
+    private final TransactionTemplate transactionTemplate;
+    private final OutboxProperties properties;
+
+    public OutboxRelay(OutboxEventRepository outboxEventRepository,
+                       List<OutboxEventHandler> handlers,
+                       TransactionTemplate transactionTemplate,
+                       ApplicationProperties applicationProperties) {
+        this.outboxEventRepository = outboxEventRepository;
+        this.handlers = handlers;
+        this.transactionTemplate = transactionTemplate;
+        this.properties = applicationProperties.getOutbox();
+    }
+
+    @Scheduled(fixedDelayString = "${app.outbox.poll-interval-ms}")
+    public void relay() {
+        Integer claimed;
+        int batches = 0;
+        do {
+            claimed = transactionTemplate.execute(status -> relayBatch());
+        } while (claimed != null && claimed == properties.getBatchSize() && ++batches < properties.getMaxBatchesPerPoll());
+    }
+
+    @Scheduled(cron = "0 0 * * * *")
+    public void purgeProcessed() {
+        LocalDateTime cutoff = LocalDateTime.now().minusHours(properties.getRetentionHours());
+        Integer deleted = transactionTemplate.execute(status -> outboxEventRepository.deleteProcessedBefore(cutoff));
+        if (deleted != null && deleted > 0) {
+            log.info("Purged {} processed outbox events", deleted);
+        }
+    }
+
+    private int relayBatch() {
+        List<OutboxEvent> events = outboxEventRepository.claimPending(properties.getBatchSize());
+        for (OutboxEvent event : events) {
+            deliver(event);
+        }
+        return events.size();
+    }
+
+    private void deliver(OutboxEvent event) {
+        try {
+            OutboxEventHandler handler = handlers.stream()
+                    .filter(candidate -> candidate.supports(event.getEventType()))
+                    .findFirst()
+                    .orElseThrow(() -> new IllegalStateException("No handler for outbox event type " + event.getEventType()));
+            handler.handle(event);
+            event.markProcessed();
+        } catch (RuntimeException e) {
+            long backoffMs = properties.getRetryBackoffMs() << Math.min(event.getAttempts(), 10);
+            event.markFailed(e.getMessage(), properties.getMaxAttempts(), LocalDateTime.now().plus(Duration.ofMillis(backoffMs)));
+            log.warn("Outbox event {} ({} for aggregate ID: {}) failed on attempt {}: {}",
+                    event.getId(), event.getEventType(), event.getAggregateId(), event.getAttempts(), e.getMessage());
+        }
+    }
+}
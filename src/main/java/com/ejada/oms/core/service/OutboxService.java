@@ -0,0 +1,32 @@
+package com.ejada.oms.core.service;
+
+import com.ejada.oms.core.entity.OutboxEvent;
+import com.ejada.oms.core.repository.OutboxEventRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Records outbox events. Must be called inside the transaction that makes the change,
+ * so the event is committed, or rolled back, together with it.
+ *
+ * @author Ali Hussein
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+@Transactional(propagation = Propagation.MANDATORY)
+public class OutboxService {
+
+    private final OutboxEventRepository outboxEventRepository;
+
+    public void enqueue(String eventType, Long aggregateId) {
+        outboxEventRepository.save(OutboxEvent.builder()
+                .eventType(eventType)
+                .aggregateId(aggregateId)
+                .build());
+        log.debug("Outbox event {} recorded for aggregate ID: {}", eventType, aggregateId);
+    }
+}
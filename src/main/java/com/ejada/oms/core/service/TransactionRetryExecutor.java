@@ -0,0 +1,71 @@
+package com.ejada.oms.core.service;
+
+import com.ejada.oms.core.config.properties.ApplicationProperties;
+import com.ejada.oms.core.config.properties.ApplicationProperties.TransactionProperties.RetryProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.PessimisticLockingFailureException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Supplier;
+
+/**
+ * Re-runs a transactional unit of work when the database aborts it with a deadlock or
+ * serialization failure. Attempts are bounded and spaced with full-jitter exponential backoff.
+ * The work must open its own transaction; inside an existing transaction it runs once,
+ * because the outer transaction is already marked for rollback.
+ *
+ * @author Ali Hussein
+ */
+@Service
+@Slf4j
+public class TransactionRetryExecutor {
+
+    private final RetryProperties properties;
+    private final Counter retries;
+    private final Counter exhausted;
+
+    public TransactionRetryExecutor(ApplicationProperties applicationProperties, MeterRegistry meterRegistry) {
+        this.properties = applicationProperties.getTransaction().getRetry();
+        this.retries = Counter.builder("oms.transaction.retries")
+                .description("Transactions re-run after a deadlock or serialization failure")
+                .register(meterRegistry);
+        this.exhausted = Counter.builder("oms.transaction.retries.exhausted")
+                .description("Transactions that still failed after the last retry")
+                .register(meterRegistry);
+    }
+
+    public <T> T execute(Supplier<T> work) {
+        if (TransactionSynchronizationManager.isActualTransactionActive()) {
+            return work.get();
+        }
+
+        int attempt = 1;
+        while (true) {
+            try {
+                return work.get();
+            } catch (PessimisticLockingFailureException e) {
+                if (attempt >= properties.getMaxAttempts()) {
+                    exhausted.increment();
+                    throw e;
+                }
+                retries.increment();
+                log.warn("Transaction aborted by {} on attempt {}, retrying", e.getClass().getSimpleName(), attempt);
+                backoff(attempt++);
+            }
+        }
+    }
+
+    private void backoff(int attempt) {
+        long ceiling = Math.min(properties.getMaxBackoffMs(), properties.getInitialBackoffMs() << (attempt - 1));
+        try {
+            Thread.sleep(ThreadLocalRandom.current().nextLong(ceiling + 1));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting to retry transaction", e);
+        }
+    }
+}
@@ -3,298 +3,300 @@ package com.ejada.oms.core.specification;
 import com.ejada.oms.core.dto.GeneralFilterDto;
 import com.ejada.oms.core.dto.GeneralFilterDto.FilterCriteria;
 import com.ejada.oms.core.dto.GeneralFilterDto.FilterOperator;
-import jakarta.persistence.criteria.*;
-import jakarta.persistence.metamodel.Attribute;
-import jakarta.persistence.metamodel.EntityType;
+import com.ejada.oms.core.dto.PageCursor;
+import com.ejada.oms.core.exception.BusinessException;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.Expression;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.util.StringUtils;
 
-import java.math.BigDecimal;
-import java.time.LocalDate;
-import java.time.LocalDateTime;
-import java.time.format.DateTimeFormatter;
-import java.time.format.DateTimeParseException;
-import java.util.Arrays;
+import java.util.ArrayList;
 import java.util.List;
-import java.util.Set;
+import java.util.Locale;
+import java.util.regex.Pattern;
 
 /**
  * Dynamic specification builder for creating JPA specifications from GeneralFilterDto.
- * Supports type-safe filtering across all entity types using metamodel.
+ * Filters are checked and their values parsed against the entity's {@link EntityFilterMetadata}
+ * before the specification is built, so invalid requests fail fast with a validation error and
+ * the returned specification only assembles predicates. Global search uses the full-text index
+ * for entities configured with {@code full-text: true} and {@code LIKE} otherwise.
  * 
  * @author Ali Hussein
  */
 @Slf4j
 public class DynamicSpecificationBuilder {
 
+    private static final Pattern SEARCH_WORD_SEPARATOR = Pattern.compile("[^\\p{L}\\p{N}]+");
+
     /**
      * Build specification from GeneralFilterDto
+     *
+     * @throws BusinessException if a filter names an unknown field, an operator the field does not
+     *                           support, or a value that cannot be parsed for the field type
      */
-    public static <T> Specification<T> buildSpecification(GeneralFilterDto filterDto, Class<T> entityClass) {
-        return (root, query, criteriaBuilder) -> {
-            Predicate predicate = criteriaBuilder.conjunction();
-            
-            // Apply individual filter criteria
-            if (filterDto.getFilters() != null) {
-                for (FilterCriteria criteria : filterDto.getFilters()) {
-                    Predicate criterionPredicate = buildCriterionPredicate(criteria, root, query, criteriaBuilder);
-                    if (criterionPredicate != null) {
-                        predicate = criteriaBuilder.and(predicate, criterionPredicate);
-                    }
-                }
+    public static <T> Specification<T> buildSpecification(GeneralFilterDto filterDto, EntityFilterMetadata metadata) {
+        List<CompiledCriterion> criteria = compile(filterDto, metadata);
+        List<FilterField> searchFields = metadata.getSearchFields();
+        String searchTerm = StringUtils.hasText(filterDto.getGlobalSearch()) && !searchFields.isEmpty()
+                ? filterDto.getGlobalSearch().trim().toLowerCase(Locale.ROOT)
+                : null;
+        String fullTextQuery = searchTerm != null && metadata.isFullTextSearch() ? toPrefixQuery(searchTerm) : null;
+        String searchPattern = searchTerm != null && fullTextQuery == null ? "%" + searchTerm + "%" : null;
+        boolean byRelevance = filterDto.isSortedByRelevance();
+        if (byRelevance && fullTextQuery == null) {
+            throw BusinessException.validationError("Sorting by relevance requires a full-text globalSearch term");
+        }
+
+        return (root, query, cb) -> {
+            int count = criteria.size() + (searchTerm != null ? 1 : 0);
+            Predicate[] predicates = new Predicate[count];
+            for (int i = 0; i < criteria.size(); i++) {
+                predicates[i] = criteria.get(i).toPredicate(root, cb);
             }
-            
-            // Apply global search if specified
-            if (StringUtils.hasText(filterDto.getGlobalSearch())) {
-                Predicate globalSearchPredicate = buildGlobalSearchPredicate(
-                    filterDto.getGlobalSearch(), root, query, criteriaBuilder, entityClass);
-                if (globalSearchPredicate != null) {
-                    predicate = criteriaBuilder.and(predicate, globalSearchPredicate);
+            if (fullTextQuery != null) {
+                Expression<String> document = searchDocument(searchFields, root, cb);
+                Expression<String> tsQuery = cb.literal(fullTextQuery);
+                predicates[count - 1] = cb.isTrue(cb.function("fts_match", Boolean.class, document, tsQuery));
+                if (byRelevance && query != null && !Long.class.equals(query.getResultType())) {
+                    query.orderBy(cb.desc(cb.function("fts_rank", Double.class, document, tsQuery)),
+                            cb.desc(root.get("id")));
                 }
+            } else if (searchPattern != null) {
+                predicates[count - 1] = buildGlobalSearchPredicate(searchPattern, searchFields, root, cb);
             }
-            
-            return predicate;
+            return cb.and(predicates);
         };
     }
     
     /**
-     * Build predicate for individual filter criterion
+     * Build keyset predicate selecting the rows that come after the cursor in (sortBy, id) order,
+     * within the cursor's group: rows with a sort key, or rows without one. A present key is bounded
+     * by {@code key >= value} ({@code <=} descending) so the (sortBy, id) index can range-scan it.
+     * Rows of the following group are selected by {@link #buildSeekNextGroupSpecification}.
      */
-    private static <T> Predicate buildCriterionPredicate(
-            FilterCriteria criteria, Root<T> root, CriteriaQuery<?> query, CriteriaBuilder cb) {
-        
-        if (!StringUtils.hasText(criteria.getField())) {
-            return null;
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public static <T> Specification<T> buildSeekSpecification(PageCursor cursor, EntityFilterMetadata metadata) {
+        FilterField sortField = metadata.field(cursor.getSortBy());
+        FilterField idField = metadata.field("id");
+        Comparable id = sortField != null ? (Comparable) idField.parse(cursor.getId()) : null;
+        Comparable value = sortField != null && cursor.getValue() != null
+                ? (Comparable) sortField.parse(cursor.getValue())
+                : null;
+        if (id == null || cursor.getValue() != null && value == null) {
+            throw BusinessException.validationError("Invalid pagination cursor");
         }
-        
-        try {
-            Path<?> fieldPath = getFieldPath(root, criteria.getField());
-            if (fieldPath == null) {
-                log.warn("Field '{}' not found in entity", criteria.getField());
-                return null;
+
+        return (root, query, cb) -> {
+            Path<?> sortPath = sortField.resolve(root);
+            boolean ascending = cursor.getDirection().isAscending();
+            Expression<Comparable> key = (Expression<Comparable>) sortPath;
+            Expression<Comparable> idKey = (Expression<Comparable>) idField.resolve(root);
+            Predicate idAfter = ascending ? cb.greaterThan(idKey, id) : cb.lessThan(idKey, id);
+
+            if (value == null) {
+                return cb.and(cb.isNull(sortPath), idAfter);
             }
-            
-            return buildPredicateByOperator(criteria, fieldPath, cb);
-            
-        } catch (Exception e) {
-            log.warn("Error building predicate for field '{}': {}", criteria.getField(), e.getMessage());
-            return null;
-        }
+            Predicate bound = ascending ? cb.greaterThanOrEqualTo(key, value) : cb.lessThanOrEqualTo(key, value);
+            Predicate after = ascending ? cb.greaterThan(key, value) : cb.lessThan(key, value);
+            return cb.and(bound, cb.or(after, idAfter));
+        };
     }
-    
+
     /**
-     * Get field path supporting nested properties (e.g., "customer.firstName")
+     * The group that follows the cursor's group in PostgreSQL null ordering (nulls last when ascending,
+     * first when descending): null sort keys after a present one when ascending, present keys after a
+     * null one when descending. Returns null when the cursor is already in the last group.
      */
-    private static <T> Path<?> getFieldPath(Root<T> root, String fieldName) {
-        try {
-            if (fieldName.contains(".")) {
-                String[] parts = fieldName.split("\\.");
-                Path<?> path = root;
-                for (String part : parts) {
-                    path = path.get(part);
-                }
-                return path;
-            } else {
-                return root.get(fieldName);
-            }
-        } catch (Exception e) {
-            log.warn("Could not resolve field path '{}': {}", fieldName, e.getMessage());
+    public static <T> Specification<T> buildSeekNextGroupSpecification(PageCursor cursor, EntityFilterMetadata metadata) {
+        FilterField sortField = metadata.field(cursor.getSortBy());
+        if (sortField == null) {
+            throw BusinessException.validationError("Invalid pagination cursor");
+        }
+        boolean ascending = cursor.getDirection().isAscending();
+        if (ascending == (cursor.getValue() == null)) {
             return null;
         }
+        return (root, query, cb) -> ascending
+                ? cb.isNull(sortField.resolve(root))
+                : cb.isNotNull(sortField.resolve(root));
     }
-    
+
     /**
-     * Build predicate based on operator type
+     * Check every criterion against the metadata and parse its values once, collecting all problems
+     * into a single validation error.
      */
-    @SuppressWarnings({"unchecked", "rawtypes"})
-    private static Predicate buildPredicateByOperator(
-            FilterCriteria criteria, Path<?> fieldPath, CriteriaBuilder cb) {
-        
-        FilterOperator operator = criteria.getOperator();
-        String value = criteria.getValue();
-        String value2 = criteria.getValue2();
-        
-        if (operator == FilterOperator.IS_NULL) {
-            return cb.isNull(fieldPath);
+    private static List<CompiledCriterion> compile(GeneralFilterDto filterDto, EntityFilterMetadata metadata) {
+        if (filterDto.getFilters() == null || filterDto.getFilters().isEmpty()) {
+            return List.of();
         }
-        
-        if (operator == FilterOperator.IS_NOT_NULL) {
-            return cb.isNotNull(fieldPath);
-        }
-        
-        if (operator == FilterOperator.IS_TRUE) {
-            return cb.isTrue((Expression<Boolean>) fieldPath);
-        }
-        
-        if (operator == FilterOperator.IS_FALSE) {
-            return cb.isFalse((Expression<Boolean>) fieldPath);
+
+        List<CompiledCriterion> compiled = new ArrayList<>(filterDto.getFilters().size());
+        List<String> errors = new ArrayList<>();
+        for (FilterCriteria criteria : filterDto.getFilters()) {
+            if (!StringUtils.hasText(criteria.getField())) {
+                continue;
+            }
+            FilterField field = metadata.field(criteria.getField());
+            FilterOperator operator = criteria.getOperator() != null ? criteria.getOperator() : FilterOperator.EQUALS;
+            if (field == null) {
+                errors.add("unknown field '" + criteria.getField() + "'");
+            } else if (!field.supports(operator)) {
+                errors.add("operator " + operator + " is not supported for '" + field.getPath() + "'");
+            } else {
+                CompiledCriterion criterion = compileCriterion(field, operator, criteria, errors);
+                if (criterion != null) {
+                    compiled.add(criterion);
+                }
+            }
         }
-        
-        if (!StringUtils.hasText(value)) {
-            return null;
+
+        if (!errors.isEmpty()) {
+            throw BusinessException.validationError("Invalid filter: " + String.join("; ", errors));
         }
-        
-        Class<?> fieldType = fieldPath.getJavaType();
-        Object convertedValue = convertValue(value, fieldType);
-        
-        if (convertedValue == null) {
-            return null;
+        for (CompiledCriterion criterion : compiled) {
+            if (!criterion.field().isIndexed()) {
+                log.debug("Filtering {} on non-indexed field '{}'",
+                        metadata.getEntityClass().getSimpleName(), criterion.field().getPath());
+            }
         }
-        
+        return compiled;
+    }
+    
+    private static CompiledCriterion compileCriterion(
+            FilterField field, FilterOperator operator, FilterCriteria criteria, List<String> errors) {
+
         switch (operator) {
-            case EQUALS:
-                return cb.equal(fieldPath, convertedValue);
-                
-            case NOT_EQUALS:
-                return cb.notEqual(fieldPath, convertedValue);
-                
-            case CONTAINS:
-                if (fieldType == String.class) {
-                    return cb.like(cb.lower((Expression<String>) fieldPath), 
-                        "%" + value.toLowerCase() + "%");
-                }
-                break;
-                
-            case NOT_CONTAINS:
-                if (fieldType == String.class) {
-                    return cb.notLike(cb.lower((Expression<String>) fieldPath), 
-                        "%" + value.toLowerCase() + "%");
-                }
-                break;
-                
-            case STARTS_WITH:
-                if (fieldType == String.class) {
-                    return cb.like(cb.lower((Expression<String>) fieldPath), 
-                        value.toLowerCase() + "%");
-                }
-                break;
-                
-            case ENDS_WITH:
-                if (fieldType == String.class) {
-                    return cb.like(cb.lower((Expression<String>) fieldPath), 
-                        "%" + value.toLowerCase());
-                }
-                break;
-                
-            case GREATER_THAN:
-                if (Comparable.class.isAssignableFrom(fieldType)) {
-                    return cb.greaterThan((Expression<Comparable>) fieldPath, (Comparable) convertedValue);
-                }
-                break;
-                
-            case GREATER_THAN_OR_EQUAL:
-                if (Comparable.class.isAssignableFrom(fieldType)) {
-                    return cb.greaterThanOrEqualTo((Expression<Comparable>) fieldPath, (Comparable) convertedValue);
-                }
-                break;
-                
-            case LESS_THAN:
-                if (Comparable.class.isAssignableFrom(fieldType)) {
-                    return cb.lessThan((Expression<Comparable>) fieldPath, (Comparable) convertedValue);
+            case IS_NULL, IS_NOT_NULL, IS_TRUE, IS_FALSE:
+                return new CompiledCriterion(field, operator, null, null);
+
+            case CONTAINS, NOT_CONTAINS, STARTS_WITH, ENDS_WITH:
+                if (!StringUtils.hasText(criteria.getValue())) {
+                    errors.add("'" + field.getPath() + "' " + operator + " requires a value");
+                    return null;
                 }
-                break;
-                
-            case LESS_THAN_OR_EQUAL:
-                if (Comparable.class.isAssignableFrom(fieldType)) {
-                    return cb.lessThanOrEqualTo((Expression<Comparable>) fieldPath, (Comparable) convertedValue);
+                String text = criteria.getValue().toLowerCase(Locale.ROOT);
+                String pattern = switch (operator) {
+                    case STARTS_WITH -> text + "%";
+                    case ENDS_WITH -> "%" + text;
+                    default -> "%" + text + "%";
+                };
+                return new CompiledCriterion(field, operator, pattern, null);
+
+            case IN, NOT_IN:
+                if (!StringUtils.hasText(criteria.getValue())) {
+                    errors.add("'" + field.getPath() + "' " + operator + " requires a value");
+                    return null;
                 }
-                break;
-                
-            case BETWEEN:
-                if (Comparable.class.isAssignableFrom(fieldType) && StringUtils.hasText(value2)) {
-                    Object convertedValue2 = convertValue(value2, fieldType);
-                    if (convertedValue2 != null) {
-                        return cb.between((Expression<Comparable>) fieldPath, 
-                            (Comparable) convertedValue, (Comparable) convertedValue2);
+                String[] parts = criteria.getValue().split(",");
+                Object[] values = new Object[parts.length];
+                for (int i = 0; i < parts.length; i++) {
+                    values[i] = parseValue(field, parts[i], errors);
+                    if (values[i] == null) {
+                        return null;
                     }
                 }
-                break;
-                
-            case IN:
-                List<String> values = Arrays.asList(value.split(","));
-                return fieldPath.in(values.stream()
-                    .map(v -> convertValue(v.trim(), fieldType))
-                    .filter(v -> v != null)
-                    .toArray());
-                
-            case NOT_IN:
-                List<String> notValues = Arrays.asList(value.split(","));
-                return cb.not(fieldPath.in(notValues.stream()
-                    .map(v -> convertValue(v.trim(), fieldType))
-                    .filter(v -> v != null)
-                    .toArray()));
+                return new CompiledCriterion(field, operator, values, null);
+
+            case BETWEEN:
+                Object from = parseValue(field, criteria.getValue(), errors);
+                Object to = from != null ? parseValue(field, criteria.getValue2(), errors) : null;
+                return to != null ? new CompiledCriterion(field, operator, from, to) : null;
+
+            default:
+                Object value = parseValue(field, criteria.getValue(), errors);
+                return value != null ? new CompiledCriterion(field, operator, value, null) : null;
         }
-        
-        return null;
     }
     
-    /**
-     * Convert string value to appropriate type
-     */
-    private static Object convertValue(String value, Class<?> targetType) {
+    private static Object parseValue(FilterField field, String value, List<String> errors) {
         if (!StringUtils.hasText(value)) {
+            errors.add("'" + field.getPath() + "' requires a value");
             return null;
         }
-        
-        try {
-            if (targetType == String.class) {
-                return value;
-            } else if (targetType == Integer.class || targetType == int.class) {
-                return Integer.valueOf(value);
-            } else if (targetType == Long.class || targetType == long.class) {
-                return Long.valueOf(value);
-            } else if (targetType == Double.class || targetType == double.class) {
-                return Double.valueOf(value);
-            } else if (targetType == Float.class || targetType == float.class) {
-                return Float.valueOf(value);
-            } else if (targetType == BigDecimal.class) {
-                return new BigDecimal(value);
-            } else if (targetType == Boolean.class || targetType == boolean.class) {
-                return Boolean.valueOf(value);
-            } else if (targetType == LocalDateTime.class) {
-                return LocalDateTime.parse(value, DateTimeFormatter.ISO_LOCAL_DATE_TIME);
-            } else if (targetType == LocalDate.class) {
-                return LocalDate.parse(value, DateTimeFormatter.ISO_LOCAL_DATE);
-            } else if (targetType.isEnum()) {
-                return Enum.valueOf((Class<Enum>) targetType, value.toUpperCase());
-            }
-        } catch (Exception e) {
-            log.warn("Could not convert value '{}' to type {}: {}", value, targetType.getSimpleName(), e.getMessage());
+        Object parsed = field.parse(value);
+        if (parsed == null) {
+            errors.add("'" + value.trim() + "' is not a valid " + field.getJavaType().getSimpleName()
+                    + " for '" + field.getPath() + "'");
         }
-        
-        return null;
+        return parsed;
     }
     
     /**
      * Build global search predicate for searchable string fields
      */
-    private static <T> Predicate buildGlobalSearchPredicate(
-            String searchTerm, Root<T> root, CriteriaQuery<?> query, 
-            CriteriaBuilder cb, Class<T> entityClass) {
-        
-        try {
-            EntityType<T> entityType = root.getModel();
-            Set<Attribute<? super T, ?>> attributes = entityType.getAttributes();
-            
-            Predicate searchPredicate = cb.disjunction();
-            
-            for (Attribute<? super T, ?> attribute : attributes) {
-                if (attribute.getJavaType() == String.class) {
-                    Path<String> stringPath = root.get(attribute.getName());
-                    Predicate likePredicate = cb.like(
-                        cb.lower(stringPath), 
-                        "%" + searchTerm.toLowerCase() + "%"
-                    );
-                    searchPredicate = cb.or(searchPredicate, likePredicate);
+    private static Predicate buildGlobalSearchPredicate(
+            String pattern, List<FilterField> searchFields, Root<?> root, CriteriaBuilder cb) {
+        Predicate[] predicates = new Predicate[searchFields.size()];
+        for (int i = 0; i < predicates.length; i++) {
+            predicates[i] = cb.like(cb.lower(textPath(searchFields.get(i), root)), pattern);
+        }
+        return cb.or(predicates);
+    }
+    
+    /**
+     * Turn a search term into a tsquery matching every word as a prefix ({@code lapt gam} becomes
+     * {@code lapt:* & gam:*}). Returns {@code null} when the term has no searchable words.
+     */
+    private static String toPrefixQuery(String searchTerm) {
+        StringBuilder tsQuery = new StringBuilder();
+        for (String word : SEARCH_WORD_SEPARATOR.split(searchTerm)) {
+            if (!word.isEmpty()) {
+                if (!tsQuery.isEmpty()) {
+                    tsQuery.append(" & ");
                 }
+                tsQuery.append(word).append(":*");
             }
-            
-            return searchPredicate;
-            
-        } catch (Exception e) {
-            log.warn("Error building global search predicate: {}", e.getMessage());
-            return null;
+        }
+        return tsQuery.isEmpty() ? null : tsQuery.toString();
+    }
+    
+    /**
+     * Same call over the same columns as the entity's GIN index, so PostgreSQL can use it
+     */
+    private static Expression<String> searchDocument(List<FilterField> searchFields, Root<?> root, CriteriaBuilder cb) {
+        Expression<?>[] columns = new Expression<?>[searchFields.size()];
+        for (int i = 0; i < columns.length; i++) {
+            columns[i] = searchFields.get(i).resolve(root);
+        }
+        return cb.function("search_document", String.class, columns);
+    }
+    
+    @SuppressWarnings("unchecked")
+    private static Expression<String> textPath(FilterField field, Root<?> root) {
+        return (Expression<String>) field.resolve(root);
+    }
+    
+    /**
+     * Filter criterion whose field is resolved and values are parsed, ready to become a predicate
+     */
+    private record CompiledCriterion(FilterField field, FilterOperator operator, Object value, Object value2) {
+        
+        @SuppressWarnings({"unchecked", "rawtypes"})
+        Predicate toPredicate(Root<?> root, CriteriaBuilder cb) {
+            Path<?> path = field.resolve(root);
+            Expression<Comparable> comparable = (Expression<Comparable>) path;
+            return switch (operator) {
+                case IS_NULL -> cb.isNull(path);
+                case IS_NOT_NULL -> cb.isNotNull(path);
+                case IS_TRUE -> cb.isTrue((Expression<Boolean>) path);
+                case IS_FALSE -> cb.isFalse((Expression<Boolean>) path);
+                case EQUALS -> cb.equal(path, value);
+                case NOT_EQUALS -> cb.notEqual(path, value);
+                case CONTAINS, STARTS_WITH, ENDS_WITH -> cb.like(cb.lower((Expression<String>) path), (String) value);
+                case NOT_CONTAINS -> cb.notLike(cb.lower((Expression<String>) path), (String) value);
+                case GREATER_THAN -> cb.greaterThan(comparable, (Comparable) value);
+                case GREATER_THAN_OR_EQUAL -> cb.greaterThanOrEqualTo(comparable, (Comparable) value);
+                case LESS_THAN -> cb.lessThan(comparable, (Comparable) value);
+                case LESS_THAN_OR_EQUAL -> cb.lessThanOrEqualTo(comparable, (Comparable) value);
+                case BETWEEN -> cb.between(comparable, (Comparable) value, (Comparable) value2);
+                case IN -> path.in((Object[]) value);
+                case NOT_IN -> cb.not(path.in((Object[]) value));
+            };
         }
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,37 @@
+package com.ejada.oms.core.specification;
+
+import lombok.Getter;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Filterable attributes of one entity, keyed by dotted path (e.g. {@code customer.firstName}),
+ * plus the text attributes used for global search and whether that search runs against the
+ * entity's full-text index instead of {@code LIKE}.
+ *
+ * @author Ali Hussein
+ */
+@Getter
+public final class EntityFilterMetadata {
+
+    private final Class<?> entityClass;
+    private final Map<String, FilterField> fields;
+    private final List<FilterField> searchFields;
+    private final boolean fullTextSearch;
+
+    EntityFilterMetadata(Class<?> entityClass, Map<String, FilterField> fields,
+                         List<FilterField> searchFields, boolean fullTextSearch) {
+        this.entityClass = entityClass;
+        this.fields = Map.copyOf(fields);
+        this.searchFields = List.copyOf(searchFields);
+        this.fullTextSearch = fullTextSearch;
+    }
+
+    /**
+     * @return the field for the path, or {@code null} when the entity cannot be filtered by it
+     */
+    public FilterField field(String path) {
+        return path == null ? null : fields.get(path);
+    }
+}
@@ -0,0 +1,68 @@
+package com.ejada.oms.core.specification;
+
+import com.ejada.oms.core.dto.GeneralFilterDto.FilterOperator;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Root;
+import lombok.Getter;
+
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * Filterable attribute of an entity, resolved once from the JPA metamodel.
+ * Holds the split attribute path, the parser for request values and the operators
+ * that make sense for the attribute type.
+ *
+ * @author Ali Hussein
+ */
+@Getter
+public final class FilterField {
+
+    private final String path;
+    private final String[] segments;
+    private final Class<?> javaType;
+    private final Set<FilterOperator> operators;
+    private final boolean joinRequired;
+    private final boolean indexed;
+    private final Function<String, Object> parser;
+
+    FilterField(String path, Class<?> javaType, Set<FilterOperator> operators,
+                boolean indexed, Function<String, Object> parser) {
+        this.path = path;
+        this.segments = path.split("\\.");
+        this.javaType = javaType;
+        this.operators = operators;
+        this.joinRequired = segments.length > 1;
+        this.indexed = indexed;
+        this.parser = parser;
+    }
+
+    public boolean supports(FilterOperator operator) {
+        return operators.contains(operator);
+    }
+
+    public boolean isText() {
+        return javaType == String.class;
+    }
+
+    /**
+     * Parses a request value, returning {@code null} when it is not valid for the attribute type.
+     */
+    public Object parse(String value) {
+        return parser.apply(value.trim());
+    }
+
+    /**
+     * Resolves the attribute against the query root; nested paths join through to-one associations.
+     */
+    public Path<?> resolve(Root<?> root) {
+        if (!joinRequired) {
+            return root.get(path);
+        }
+        Path<?> current = root;
+        for (String segment : segments) {
+            current = current.get(segment);
+        }
+        return current;
+    }
+}
@@ -0,0 +1,271 @@
+package com.ejada.oms.core.specification;
+
+import com.ejada.oms.core.config.properties.ApplicationProperties;
+import com.ejada.oms.core.config.properties.ApplicationProperties.SearchProperties.EntitySearchProperties;
+import com.ejada.oms.core.dto.GeneralFilterDto.FilterOperator;
+import com.ejada.oms.core.util.Money;
+import jakarta.persistence.Column;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.Index;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.Table;
+import jakarta.persistence.metamodel.Attribute;
+import jakarta.persistence.metamodel.EntityType;
+import jakarta.persistence.metamodel.ManagedType;
+import jakarta.persistence.metamodel.SingularAttribute;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.ResolvableType;
+import org.springframework.stereotype.Component;
+
+import java.lang.reflect.Field;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * Filter metadata for every JPA entity, built once at startup from the metamodel.
+ * Listing requests look up fields, parsers and allowed operators here instead of
+ * resolving attribute paths and value types by trial on every query.
+ *
+ * @author Ali Hussein
+ */
+@Component
+@Slf4j
+public class FilterMetadataRegistry {
+
+    /** How many to-one associations a filter path may traverse (e.g. customer.user.email) */
+    private static final int MAX_ASSOCIATION_DEPTH = 2;
+
+    private static final Set<String> EXCLUDED_ATTRIBUTES = Set.of("passwordHash");
+
+    private static final Set<FilterOperator> NULL_OPERATORS =
+            EnumSet.of(FilterOperator.IS_NULL, FilterOperator.IS_NOT_NULL);
+
+    private static final Set<FilterOperator> COMPARABLE_OPERATORS = withNullOperators(EnumSet.of(
+            FilterOperator.EQUALS, FilterOperator.NOT_EQUALS,
+            FilterOperator.GREATER_THAN, FilterOperator.GREATER_THAN_OR_EQUAL,
+            FilterOperator.LESS_THAN, FilterOperator.LESS_THAN_OR_EQUAL,
+            FilterOperator.BETWEEN, FilterOperator.IN, FilterOperator.NOT_IN));
+
+    private static final Set<FilterOperator> TEXT_OPERATORS = union(COMPARABLE_OPERATORS, EnumSet.of(
+            FilterOperator.CONTAINS, FilterOperator.NOT_CONTAINS,
+            FilterOperator.STARTS_WITH, FilterOperator.ENDS_WITH));
+
+    private static final Set<FilterOperator> BOOLEAN_OPERATORS = withNullOperators(EnumSet.of(
+            FilterOperator.EQUALS, FilterOperator.NOT_EQUALS,
+            FilterOperator.IS_TRUE, FilterOperator.IS_FALSE));
+
+    private static final Set<FilterOperator> ENUM_OPERATORS = withNullOperators(EnumSet.of(
+            FilterOperator.EQUALS, FilterOperator.NOT_EQUALS,
+            FilterOperator.IN, FilterOperator.NOT_IN));
+
+    private static final Map<Class<?>, Function<String, Object>> PARSERS = Map.ofEntries(
+            Map.entry(String.class, value -> value),
+            Map.entry(Integer.class, value -> parseNumber(value, Integer::valueOf)),
+            Map.entry(Long.class, value -> parseNumber(value, Long::valueOf)),
+            Map.entry(Double.class, value -> parseNumber(value, Double::valueOf)),
+            Map.entry(Float.class, value -> parseNumber(value, Float::valueOf)),
+            Map.entry(BigDecimal.class, value -> parseNumber(value, BigDecimal::new)),
+            Map.entry(Money.class, value -> parseNumber(value, amount -> Money.of(new BigDecimal(amount)))),
+            Map.entry(Boolean.class, FilterMetadataRegistry::parseBoolean),
+            Map.entry(LocalDateTime.class, value -> parseTemporal(value, LocalDateTime::parse)),
+            Map.entry(LocalDate.class, value -> parseTemporal(value, LocalDate::parse)));
+
+    private final Map<Class<?>, EntityFilterMetadata> entities;
+
+    public FilterMetadataRegistry(EntityManagerFactory entityManagerFactory, ApplicationProperties applicationProperties) {
+        Map<String, EntitySearchProperties> searchSettings = applicationProperties.getSearch().getEntities() != null
+                ? applicationProperties.getSearch().getEntities()
+                : Map.of();
+        Map<Class<?>, EntityFilterMetadata> built = new HashMap<>();
+        for (EntityType<?> entityType : entityManagerFactory.getMetamodel().getEntities()) {
+            Class<?> entityClass = entityType.getJavaType();
+            Map<String, FilterField> fields = new LinkedHashMap<>();
+            collect(entityType, "", 0, fields);
+
+            EntitySearchProperties search = searchSettings.get(entityClass.getSimpleName().toLowerCase(Locale.ROOT));
+            List<FilterField> searchFields = search != null
+                    ? configuredSearchFields(entityClass, fields, search)
+                    : fields.values().stream().filter(field -> field.isText() && !field.isJoinRequired()).toList();
+            built.put(entityClass, new EntityFilterMetadata(entityClass, fields, searchFields,
+                    search != null && search.isFullText()));
+        }
+        this.entities = Map.copyOf(built);
+        log.info("Compiled filter metadata for {} entities", entities.size());
+    }
+
+    public EntityFilterMetadata forEntity(Class<?> entityClass) {
+        EntityFilterMetadata metadata = entities.get(entityClass);
+        if (metadata == null) {
+            throw new IllegalArgumentException(entityClass.getName() + " is not a managed entity");
+        }
+        return metadata;
+    }
+
+    /**
+     * Search fields must be text columns of the entity's own table, since the full-text index
+     * ({@code search_document(...)} in the migrations) is built over them in the configured order.
+     */
+    private static List<FilterField> configuredSearchFields(
+            Class<?> entityClass, Map<String, FilterField> fields, EntitySearchProperties search) {
+        if (search.getFields() == null || search.getFields().isEmpty()) {
+            throw new IllegalStateException("No search fields configured for " + entityClass.getSimpleName());
+        }
+        return search.getFields().stream()
+                .map(path -> {
+                    FilterField field = fields.get(path);
+                    if (field == null || !field.isText() || field.isJoinRequired()) {
+                        throw new IllegalStateException("'" + path + "' is not a text attribute of "
+                                + entityClass.getSimpleName() + " and cannot be searched");
+                    }
+                    return field;
+                })
+                .toList();
+    }
+
+    private void collect(ManagedType<?> type, String prefix, int depth, Map<String, FilterField> fields) {
+        for (Attribute<?, ?> attribute : type.getAttributes()) {
+            if (!(attribute instanceof SingularAttribute<?, ?> singular)
+                    || singular.isVersion()
+                    || EXCLUDED_ATTRIBUTES.contains(attribute.getName())) {
+                continue;
+            }
+            String path = prefix + attribute.getName();
+            switch (attribute.getPersistentAttributeType()) {
+                case BASIC -> {
+                    FilterField field = basicField(path, singular, attributeType(type, singular), type.getJavaType());
+                    if (field != null) {
+                        fields.put(path, field);
+                    }
+                }
+                case MANY_TO_ONE, ONE_TO_ONE -> {
+                    if (depth < MAX_ASSOCIATION_DEPTH && singular.getType() instanceof ManagedType<?> target) {
+                        collect(target, path + ".", depth + 1, fields);
+                    }
+                }
+                default -> {
+                    // Embedded and element collection attributes are not filterable
+                }
+            }
+        }
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private FilterField basicField(String path, SingularAttribute<?, ?> attribute, Class<?> attributeType, Class<?> owner) {
+        Class<?> javaType = boxed(attributeType);
+        boolean indexed = isIndexed(attribute, owner);
+
+        if (javaType.isEnum()) {
+            Map<String, Object> constants = new HashMap<>();
+            for (Object constant : javaType.getEnumConstants()) {
+                constants.put(((Enum) constant).name(), constant);
+            }
+            return new FilterField(path, javaType, ENUM_OPERATORS, indexed,
+                    value -> constants.get(value.toUpperCase(Locale.ROOT)));
+        }
+
+        Function<String, Object> parser = PARSERS.get(javaType);
+        if (parser == null) {
+            return null;
+        }
+        Set<FilterOperator> operators = javaType == String.class ? TEXT_OPERATORS
+                : javaType == Boolean.class ? BOOLEAN_OPERATORS
+                : COMPARABLE_OPERATORS;
+        return new FilterField(path, javaType, operators, indexed, parser);
+    }
+
+    /**
+     * Ids, unique columns and foreign keys are indexed by the schema; other columns count as
+     * indexed when they lead one of the indexes declared on the entity's {@link Table}.
+     */
+    private static boolean isIndexed(SingularAttribute<?, ?> attribute, Class<?> owner) {
+        if (attribute.isId()) {
+            return true;
+        }
+        if (!(attribute.getJavaMember() instanceof Field member)) {
+            return false;
+        }
+        Column column = member.getAnnotation(Column.class);
+        if (column != null && column.unique() || member.isAnnotationPresent(JoinColumn.class)) {
+            return true;
+        }
+        String columnName = column != null && !column.name().isEmpty() ? column.name() : member.getName();
+        Table table = owner.getAnnotation(Table.class);
+        return table != null && Arrays.stream(table.indexes())
+                .map(FilterMetadataRegistry::leadingColumn)
+                .anyMatch(columnName::equalsIgnoreCase);
+    }
+
+    private static String leadingColumn(Index index) {
+        return index.columnList().split(",")[0].trim().split("\\s+")[0];
+    }
+
+    /**
+     * The id is declared as the type parameter of {@code BaseEntity}, so the metamodel reports its erased
+     * bound ({@code Serializable}); resolving the field against the entity class gives the concrete type.
+     */
+    private static Class<?> attributeType(ManagedType<?> owner, SingularAttribute<?, ?> attribute) {
+        if (attribute.getJavaMember() instanceof Field member) {
+            Class<?> resolved = ResolvableType.forField(member, owner.getJavaType()).resolve();
+            if (resolved != null) {
+                return resolved;
+            }
+        }
+        return attribute.getJavaType();
+    }
+
+    private static Class<?> boxed(Class<?> type) {
+        if (!type.isPrimitive()) {
+            return type;
+        }
+        return type == int.class ? Integer.class
+                : type == long.class ? Long.class
+                : type == double.class ? Double.class
+                : type == float.class ? Float.class
+                : type == boolean.class ? Boolean.class
+                : type;
+    }
+
+    private static Object parseNumber(String value, Function<String, Object> parser) {
+        try {
+            return parser.apply(value);
+        } catch (NumberFormatException | ArithmeticException e) {
+            return null;
+        }
+    }
+
+    private static Object parseTemporal(String value, Function<String, Object> parser) {
+        try {
+            return parser.apply(value);
+        } catch (RuntimeException e) {
+            return null;
+        }
+    }
+
+    private static Object parseBoolean(String value) {
+        if ("true".equalsIgnoreCase(value)) {
+            return Boolean.TRUE;
+        }
+        return "false".equalsIgnoreCase(value) ? Boolean.FALSE : null;
+    }
+
+    private static Set<FilterOperator> withNullOperators(Set<FilterOperator> operators) {
+        return union(operators, NULL_OPERATORS);
+    }
+
+    private static Set<FilterOperator> union(Set<FilterOperator> first, Set<FilterOperator> second) {
+        EnumSet<FilterOperator> operators = EnumSet.copyOf(first);
+        operators.addAll(second);
+        return Collections.unmodifiableSet(operators);
+    }
+}
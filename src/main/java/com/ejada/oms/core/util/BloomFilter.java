@@ -0,0 +1,68 @@
+package com.ejada.oms.core.util;
+
+import java.nio.charset.StandardCharsets;
+import java.util.BitSet;
+
+/**
+ * Fixed-size Bloom filter over strings, sized from the expected number of entries and the
+ * acceptable false-positive rate. {@link #mightContain} never returns false for an added value.
+ * Not thread-safe while being filled; publish it only once all values are added.
+ *
+ * @author Ali Hussein
+ */
+public final class BloomFilter {
+
+    private static final long FNV_OFFSET_BASIS = 0xcbf29ce484222325L;
+    private static final long FNV_PRIME = 0x100000001b3L;
+
+    private final BitSet bits;
+    private final int bitCount;
+    private final int hashCount;
+
+    public BloomFilter(int expectedEntries, double falsePositiveRate) {
+        if (expectedEntries <= 0 || falsePositiveRate <= 0 || falsePositiveRate >= 1) {
+            throw new IllegalArgumentException("Invalid Bloom filter sizing: " + expectedEntries + ", " + falsePositiveRate);
+        }
+        double ln2 = Math.log(2);
+        this.bitCount = (int) Math.ceil(-expectedEntries * Math.log(falsePositiveRate) / (ln2 * ln2));
+        this.hashCount = Math.max(1, (int) Math.round((double) bitCount / expectedEntries * ln2));
+        this.bits = new BitSet(bitCount);
+    }
+
+    public void add(String value) {
+        long hash = hash(value);
+        int first = (int) hash;
+        int second = (int) (hash >>> 32);
+        for (int i = 0; i < hashCount; i++) {
+            bits.set(index(first + i * second));
+        }
+    }
+
+    public boolean mightContain(String value) {
+        long hash = hash(value);
+        int first = (int) hash;
+        int second = (int) (hash >>> 32);
+        for (int i = 0; i < hashCount; i++) {
+            if (!bits.get(index(first + i * second))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private int index(int combined) {
+        return (combined & Integer.MAX_VALUE) % bitCount;
+    }
+
+    /**
+     * 64-bit FNV-1a; the two halves drive double hashing.
+     */
+    private static long hash(String value) {
+        long hash = FNV_OFFSET_BASIS;
+        for (byte b : value.getBytes(StandardCharsets.UTF_8)) {
+            hash ^= b & 0xff;
+            hash *= FNV_PRIME;
+        }
+        return hash;
+    }
+}
@@ -0,0 +1,90 @@
+package com.ejada.oms.core.util;
+
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Thread-safe cache with a per-entry expiry for lookups on the request path.
+ * Reads and writes go straight to a {@link ConcurrentHashMap}, so there is no shared lock.
+ * The size bound is approximate: once a write takes the cache past it, that writer drops expired
+ * entries and then arbitrary ones until the cache is back under 90% of the bound, while
+ * concurrent writers carry on. Use {@link LruCache} where recency-based eviction matters.
+ *
+ * @param <K> the key type
+ * @param <V> the value type
+ * @author Ali Hussein
+ */
+public class ExpiringCache<K, V> {
+
+    private final ConcurrentHashMap<K, Entry<V>> entries = new ConcurrentHashMap<>();
+    private final AtomicBoolean evicting = new AtomicBoolean();
+    private final int maxSize;
+    private final int evictTo;
+
+    public ExpiringCache(int maxSize) {
+        if (maxSize <= 0) {
+            throw new IllegalArgumentException("Cache size must be positive: " + maxSize);
+        }
+        this.maxSize = maxSize;
+        this.evictTo = Math.max(1, maxSize - Math.max(1, maxSize / 10));
+    }
+
+    /**
+     * @return the cached value, or null when absent or expired
+     */
+    public V get(K key) {
+        Entry<V> entry = entries.get(key);
+        if (entry == null) {
+            return null;
+        }
+        if (entry.expiresAt() <= System.currentTimeMillis()) {
+            entries.remove(key, entry);
+            return null;
+        }
+        return entry.value();
+    }
+
+    /**
+     * @param expiresAt epoch millis after which the entry is no longer returned
+     */
+    public void put(K key, V value, long expiresAt) {
+        entries.put(key, new Entry<>(value, expiresAt));
+        if (entries.size() > maxSize) {
+            evict();
+        }
+    }
+
+    public void remove(K key) {
+        entries.remove(key);
+    }
+
+    public void clear() {
+        entries.clear();
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    private void evict() {
+        if (!evicting.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            long now = System.currentTimeMillis();
+            entries.values().removeIf(entry -> entry.expiresAt() <= now);
+            Iterator<Map.Entry<K, Entry<V>>> iterator = entries.entrySet().iterator();
+            while (entries.size() > evictTo && iterator.hasNext()) {
+                iterator.next();
+                iterator.remove();
+            }
+        } finally {
+            evicting.set(false);
+        }
+    }
+
+    private record Entry<V>(V value, long expiresAt) {
+    }
+}
@@ -2,6 +2,7 @@ package com.ejada.oms.core.util;
 
 import com.ejada.oms.auth.entity.User;
 import com.ejada.oms.core.config.properties.ApplicationProperties;
+import com.ejada.oms.core.config.properties.ApplicationProperties.SecurityProperties.JwtProperties;
 import com.ejada.oms.core.exception.BusinessException;
 import io.jsonwebtoken.*;
 import io.jsonwebtoken.security.Keys;
@@ -9,27 +10,35 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 
 import javax.crypto.SecretKey;
+import java.nio.charset.StandardCharsets;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.UUID;
 
 /**
  * Utility class for JWT token operations.
- * 
+ * The signing key and parser are built once; verified claims are cached by token hash
+ * until the token expires, so a token presented repeatedly is verified only once.
+ *
  * @author Ali Hussein
  */
 @Component
 @Slf4j
 public class JwtUtil {
 
-    private final ApplicationProperties applicationProperties;
-    
-    public JwtUtil(ApplicationProperties applicationProperties) {
-        this.applicationProperties = applicationProperties;
-    }
+    private final JwtProperties properties;
+    private final SecretKey signingKey;
+    private final JwtParser parser;
+    private final ExpiringCache<String, Claims> verifiedTokens;
 
-    private SecretKey getSigningKey() {
-        return Keys.hmacShaKeyFor(applicationProperties.getSecurity().getJwt().getSecret().getBytes());
+    public JwtUtil(ApplicationProperties applicationProperties) {
+        this.properties = applicationProperties.getSecurity().getJwt();
+        this.signingKey = Keys.hmacShaKeyFor(properties.getSecret().getBytes(StandardCharsets.UTF_8));
+        this.parser = Jwts.parser()
+                .verifyWith(signingKey)
+                .build();
+        this.verifiedTokens = new ExpiringCache<>(properties.getVerifiedCacheSize());
     }
 
     public String generateToken(User user) {
@@ -40,50 +49,79 @@ public class JwtUtil {
         claims.put("role", user.getRole().name());
 
         return Jwts.builder()
-                .setClaims(claims)
-                .setSubject(user.getUsername())
-                .setIssuedAt(new Date())
-                .setExpiration(new Date(System.currentTimeMillis() + applicationProperties.getSecurity().getJwt().getExpiration()))
-                .signWith(getSigningKey(), SignatureAlgorithm.HS256)
+                .claims(claims)
+                .id(UUID.randomUUID().toString())
+                .subject(user.getUsername())
+                .issuedAt(new Date())
+                .expiration(new Date(System.currentTimeMillis() + properties.getExpiration()))
+                .signWith(signingKey, Jwts.SIG.HS256)
                 .compact();
     }
 
-    public String getUsernameFromToken(String token) {
-        Claims claims = getClaimsFromToken(token);
-        return claims.getSubject();
-    }
+    /**
+     * Verifies the signature and expiry of the token.
+     *
+     * @return the token claims
+     * @throws BusinessException when the token is expired or invalid
+     */
+    public Claims verify(String token) {
+        String key = TokenHashing.sha256(token);
+        Claims cached = verifiedTokens.get(key);
+        if (cached != null) {
+            return cached;
+        }
 
+        Claims claims = parse(token);
+        verifiedTokens.put(key, claims, claims.getExpiration().getTime());
+        return claims;
+    }
 
-    public boolean isTokenExpired(String token) {
-        try {
-            Claims claims = getClaimsFromToken(token);
-            return claims.getExpiration().before(new Date());
-        } catch (Exception e) {
-            return true;
+    /**
+     * Detached user built from the verified claims alone, for stateless authentication.
+     * Only the id, username, email and role are set; the user is active, since deactivation
+     * is enforced through the revocation list.
+     */
+    public User toPrincipal(Claims claims) {
+        Long userId = claims.get("userId", Long.class);
+        String role = claims.get("role", String.class);
+        if (userId == null || role == null) {
+            throw BusinessException.invalidToken();
         }
+        User user = User.builder()
+                .username(claims.getSubject())
+                .email(claims.get("email", String.class))
+                .role(User.UserRole.valueOf(role))
+                .isActive(true)
+                .build();
+        user.setId(userId);
+        return user;
+    }
+
+    public String getUsernameFromToken(String token) {
+        return verify(token).getSubject();
     }
 
     public boolean validateToken(String token) {
         try {
-            getClaimsFromToken(token);
-            return !isTokenExpired(token);
-        } catch (JwtException e) {
+            verify(token);
+            return true;
+        } catch (BusinessException e) {
             log.warn("Invalid JWT token: {}", e.getMessage());
             return false;
         }
     }
 
-    private Claims getClaimsFromToken(String token) {
+    private Claims parse(String token) {
         try {
-            return Jwts.parser()
-                    .setSigningKey(getSigningKey())
-                    .build()
-                    .parseClaimsJws(token)
-                    .getBody();
+            Claims claims = parser.parseSignedClaims(token).getPayload();
+            if (claims.getExpiration() == null) {
+                throw BusinessException.invalidToken();
+            }
+            return claims;
         } catch (ExpiredJwtException e) {
             throw BusinessException.tokenExpired();
-        } catch (JwtException e) {
+        } catch (JwtException | IllegalArgumentException e) {
             throw BusinessException.invalidToken();
         }
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,72 @@
+package com.ejada.oms.core.util;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Small thread-safe LRU cache with an optional per-entry expiry.
+ * Evicts the least recently used entry once the size bound is reached.
+ *
+ * @param <K> the key type
+ * @param <V> the value type
+ * @author Ali Hussein
+ */
+public class LruCache<K, V> {
+
+    private static final long NO_EXPIRY = Long.MAX_VALUE;
+
+    private final LinkedHashMap<K, Entry<V>> entries;
+
+    public LruCache(int maxSize) {
+        if (maxSize <= 0) {
+            throw new IllegalArgumentException("Cache size must be positive: " + maxSize);
+        }
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<K, Entry<V>> eldest) {
+                return size() > maxSize;
+            }
+        };
+    }
+
+    /**
+     * @return the cached value, or null when absent or expired
+     */
+    public synchronized V get(K key) {
+        Entry<V> entry = entries.get(key);
+        if (entry == null) {
+            return null;
+        }
+        if (entry.expiresAt() <= System.currentTimeMillis()) {
+            entries.remove(key);
+            return null;
+        }
+        return entry.value();
+    }
+
+    public synchronized void put(K key, V value) {
+        entries.put(key, new Entry<>(value, NO_EXPIRY));
+    }
+
+    /**
+     * @param expiresAt epoch millis after which the entry is no longer returned
+     */
+    public synchronized void put(K key, V value, long expiresAt) {
+        entries.put(key, new Entry<>(value, expiresAt));
+    }
+
+    public synchronized void remove(K key) {
+        entries.remove(key);
+    }
+
+    public synchronized void clear() {
+        entries.clear();
+    }
+
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    private record Entry<V>(V value, long expiresAt) {
+    }
+}
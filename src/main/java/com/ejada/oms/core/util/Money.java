@@ -0,0 +1,97 @@
+package com.ejada.oms.core.util;
+
+import java.io.Serializable;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+/**
+ * Monetary amount held as a count of minor units (cents) in a {@code long}.
+ * Arithmetic is exact and overflow-checked; the only rounding happens when converting from
+ * {@link BigDecimal} or applying a rate, and it is always {@link RoundingMode#HALF_UP} to two decimals.
+ * Entities hold amounts as {@code Money} (see {@code MoneyConverter}); convert with {@link #toBigDecimal()}
+ * only at the JSON boundary.
+ *
+ * @author Ali Hussein
+ */
+public final class Money implements Comparable<Money>, Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    public static final int SCALE = 2;
+    public static final RoundingMode ROUNDING = RoundingMode.HALF_UP;
+    public static final Money ZERO = new Money(0);
+
+    /** Rates are carried in millionths, e.g. 0.08 is 80_000. */
+    private static final long RATE_UNIT = 1_000_000L;
+
+    private final long minorUnits;
+
+    private Money(long minorUnits) {
+        this.minorUnits = minorUnits;
+    }
+
+    public static Money ofMinor(long minorUnits) {
+        return minorUnits == 0 ? ZERO : new Money(minorUnits);
+    }
+
+    public static Money of(BigDecimal amount) {
+        return ofMinor(amount.setScale(SCALE, ROUNDING).unscaledValue().longValueExact());
+    }
+
+    /**
+     * Converts a fractional rate such as a tax rate into millionths for {@link #timesRate(long)}.
+     */
+    public static long rateOf(BigDecimal rate) {
+        return rate.movePointRight(6).setScale(0, ROUNDING).longValueExact();
+    }
+
+    public Money plus(Money other) {
+        return ofMinor(Math.addExact(minorUnits, other.minorUnits));
+    }
+
+    public Money times(long quantity) {
+        return ofMinor(Math.multiplyExact(minorUnits, quantity));
+    }
+
+    /**
+     * @param rateMillionths rate in millionths, as returned by {@link #rateOf(BigDecimal)}
+     * @return this amount multiplied by the rate, rounded half up to the nearest minor unit
+     */
+    public Money timesRate(long rateMillionths) {
+        long product = Math.multiplyExact(minorUnits, rateMillionths);
+        long quotient = product / RATE_UNIT;
+        long remainder = Math.abs(product % RATE_UNIT);
+        if (remainder * 2 >= RATE_UNIT) {
+            quotient += Long.signum(product);
+        }
+        return ofMinor(quotient);
+    }
+
+    public long minorUnits() {
+        return minorUnits;
+    }
+
+    public BigDecimal toBigDecimal() {
+        return BigDecimal.valueOf(minorUnits, SCALE);
+    }
+
+    @Override
+    public int compareTo(Money other) {
+        return Long.compare(minorUnits, other.minorUnits);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        return this == o || (o instanceof Money other && minorUnits == other.minorUnits);
+    }
+
+    @Override
+    public int hashCode() {
+        return Long.hashCode(minorUnits);
+    }
+
+    @Override
+    public String toString() {
+        return toBigDecimal().toPlainString();
+    }
+}
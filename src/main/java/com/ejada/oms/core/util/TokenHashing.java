@@ -0,0 +1,44 @@
+package com.ejada.oms.core.util;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.util.Base64;
+import java.util.HexFormat;
+
+/**
+ * Random opaque tokens and the SHA-256 digests under which tokens are stored or cached,
+ * so the raw values are never kept as keys.
+ *
+ * @author Ali Hussein
+ */
+public final class TokenHashing {
+
+    private static final SecureRandom RANDOM = new SecureRandom();
+
+    private TokenHashing() {
+        // Utility class
+    }
+
+    /**
+     * @return a URL-safe token carrying the given number of random bytes
+     */
+    public static String randomToken(int bytes) {
+        byte[] value = new byte[bytes];
+        RANDOM.nextBytes(value);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(value);
+    }
+
+    /**
+     * @return the hex-encoded SHA-256 digest of the token, 64 characters
+     */
+    public static String sha256(String token) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(token.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+}
@@ -4,6 +4,7 @@ import com.ejada.oms.core.dto.ResponseDto;
 import com.ejada.oms.core.dto.GeneralFilterDto;
 import com.ejada.oms.customer.dto.req.CustomerCreateRequest;
 import com.ejada.oms.customer.dto.res.CustomerResponse;
+import com.ejada.oms.customer.dto.res.CustomerSummary;
 import com.ejada.oms.customer.entity.Customer;
 import com.ejada.oms.customer.mapper.CustomerMapper;
 import com.ejada.oms.customer.service.CustomerQueryService;
@@ -21,12 +22,13 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.List;
 import java.util.Map;
 
 @RestController
@@ -49,12 +51,38 @@ public class CustomerController {
         @ApiResponse(responseCode = "401", description = "Unauthorized"),
         @ApiResponse(responseCode = "403", description = "Forbidden")
     })
-    public ResponseEntity<ResponseDto<Page<CustomerResponse>>> getAll(GeneralFilterDto filterDto) {
-        Page<Customer> customers = customerQueryService.findAll(filterDto);
-        Page<CustomerResponse> response = customers.map(customerMapper::toResponse);
+    public ResponseEntity<ResponseDto<Slice<?>>> getAll(GeneralFilterDto filterDto) {
+        if (filterDto.getView() == GeneralFilterDto.View.SUMMARY) {
+            Slice<CustomerSummary> summaries = customerQueryService.findAllSummaries(filterDto);
+            return ResponseEntity.ok(ResponseDto.success(summaries, "Customers retrieved successfully"));
+        }
+        Slice<Customer> customers = customerQueryService.findAll(filterDto);
+        Slice<CustomerResponse> response = customers.map(customerMapper::toResponse);
         return ResponseEntity.ok(ResponseDto.success(response, "Customers retrieved successfully"));
     }
 
+    @GetMapping("/lookup")
+    @Operation(
+        summary = "Look up customers by partial or misspelled details",
+        description = "Fuzzy match on full name, mobile number or email fragment. Returns the best matches first."
+    )
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Matching customers retrieved successfully"),
+        @ApiResponse(responseCode = "400", description = "Lookup term too short"),
+        @ApiResponse(responseCode = "401", description = "Unauthorized"),
+        @ApiResponse(responseCode = "403", description = "Forbidden")
+    })
+    public ResponseEntity<ResponseDto<List<CustomerSummary>>> lookup(
+            @Parameter(description = "Name, mobile or email fragment", required = true, example = "jon do")
+            @RequestParam("q") String term,
+            @Parameter(description = "Maximum number of matches", example = "10")
+            @RequestParam(value = "limit", required = false) Integer limit) {
+        List<CustomerSummary> matches = customerQueryService.lookup(term, limit).stream()
+                .map(customerMapper::toSummary)
+                .toList();
+        return ResponseEntity.ok(ResponseDto.success(matches, "Customers retrieved successfully"));
+    }
+
     @GetMapping("/{id}")
     @Operation(
         summary = "Retrieve customer by ID",
@@ -0,0 +1,17 @@
+package com.ejada.oms.customer.dto.res;
+
+/**
+ * Row of the trigram customer lookup, read straight from the query without loading entities.
+ *
+ * @author Ali Hussein
+ */
+public interface CustomerLookupRow {
+
+    Long getId();
+
+    String getFullName();
+
+    String getEmail();
+
+    String getMobile();
+}
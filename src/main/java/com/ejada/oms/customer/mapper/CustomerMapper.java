@@ -1,5 +1,6 @@
 package com.ejada.oms.customer.mapper;
 
+import com.ejada.oms.customer.dto.res.CustomerLookupRow;
 import com.ejada.oms.customer.dto.res.CustomerResponse;
 import com.ejada.oms.customer.dto.res.CustomerSummary;
 import com.ejada.oms.customer.entity.Customer;
@@ -18,4 +19,6 @@ public interface CustomerMapper {
     @Mapping(source = "fullName", target = "fullName")
     @Mapping(source = "user.email", target = "email")
     CustomerSummary toSummary(Customer customer);
-}
\ No newline at end of file
+
+    CustomerSummary toSummary(CustomerLookupRow row);
+}
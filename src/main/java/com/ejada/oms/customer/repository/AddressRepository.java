@@ -0,0 +1,25 @@
+package com.ejada.oms.customer.repository;
+
+import com.ejada.oms.customer.entity.Address;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Repository for Address entity operations.
+ *
+ * @author Ali Hussein
+ */
+@Repository
+public interface AddressRepository extends JpaRepository<Address, Long> {
+
+    /**
+     * Default address of a customer, falling back to the oldest address when none is flagged as default.
+     */
+    Optional<Address> findFirstByCustomerIdOrderByIsDefaultDescIdAsc(Long customerId);
+
+    List<Address> findAllByCustomerIdIn(Collection<Long> customerIds);
+}
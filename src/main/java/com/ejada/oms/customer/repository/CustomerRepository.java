@@ -1,10 +1,15 @@
 package com.ejada.oms.customer.repository;
 
+import com.ejada.oms.customer.dto.res.CustomerLookupRow;
 import com.ejada.oms.customer.entity.Customer;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 /**
@@ -18,4 +23,39 @@ public interface CustomerRepository extends JpaRepository<Customer, Long>, JpaSp
     Optional<Customer> findByUserEmail(String email);
     boolean existsByUserEmail(String email);
     boolean existsByMobile(String mobile);
-}
\ No newline at end of file
+
+    @Query("SELECT c.id FROM Customer c WHERE c.id IN :ids")
+    List<Long> findExistingIds(@Param("ids") Collection<Long> ids);
+
+    /**
+     * Sets the similarity cut-off of the {@code %} operator for the rest of the current transaction.
+     */
+    @Query(value = "SELECT set_config('pg_trgm.similarity_threshold', CAST(:threshold AS TEXT), true)", nativeQuery = true)
+    String setSimilarityThreshold(@Param("threshold") double threshold);
+
+    /**
+     * Customers whose full name is similar to the term, or whose mobile or email contains it.
+     * Each branch is answered by a trigram index; matches are ranked by their best similarity.
+     */
+    @Query(value = """
+            WITH matches AS (
+                SELECT c.customer_id FROM customer c
+                WHERE (c.first_name || ' ' || c.last_name) % :term
+                   OR (c.first_name || ' ' || c.last_name) ILIKE :pattern
+                   OR c.mobile LIKE :pattern
+                UNION
+                SELECT c.customer_id FROM user_table u JOIN customer c ON c.user_id = u.user_id
+                WHERE u.email % :term OR u.email ILIKE :pattern
+            )
+            SELECT c.customer_id AS "id", c.first_name || ' ' || c.last_name AS "fullName",
+                   u.email AS "email", c.mobile AS "mobile"
+            FROM matches m
+            JOIN customer c ON c.customer_id = m.customer_id
+            JOIN user_table u ON u.user_id = c.user_id
+            ORDER BY GREATEST(similarity(c.first_name || ' ' || c.last_name, :term),
+                              word_similarity(:term, c.mobile),
+                              word_similarity(:term, u.email)) DESC, c.customer_id
+            LIMIT :limit
+            """, nativeQuery = true)
+    List<CustomerLookupRow> lookup(@Param("term") String term, @Param("pattern") String pattern, @Param("limit") int limit);
+}
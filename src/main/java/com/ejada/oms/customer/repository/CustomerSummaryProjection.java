@@ -0,0 +1,55 @@
+package com.ejada.oms.customer.repository;
+
+import com.ejada.oms.auth.entity.User;
+import com.ejada.oms.core.repository.SummaryProjection;
+import com.ejada.oms.customer.dto.res.CustomerSummary;
+import com.ejada.oms.customer.entity.Customer;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.From;
+import jakarta.persistence.criteria.Join;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Selection;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Columns of {@link CustomerSummary}, also reused by summaries that embed the customer.
+ *
+ * @author Ali Hussein
+ */
+@Component
+public class CustomerSummaryProjection implements SummaryProjection<Customer, CustomerSummary> {
+
+    @Override
+    public List<Selection<?>> select(Root<Customer> root, CriteriaBuilder cb) {
+        return columns(root);
+    }
+
+    @Override
+    public CustomerSummary map(Tuple tuple) {
+        return map(tuple, 0);
+    }
+
+    /**
+     * Customer columns read from {@code customer}, joining its user for the email.
+     */
+    public static List<Selection<?>> columns(From<?, Customer> customer) {
+        Join<Customer, User> user = customer.join("user");
+        return List.of(customer.get("id"), customer.get("firstName"), customer.get("lastName"),
+                user.get("email"), customer.get("mobile"));
+    }
+
+    /**
+     * Reads the customer columns starting at {@code offset}.
+     */
+    public static CustomerSummary map(Tuple tuple, int offset) {
+        CustomerSummary summary = new CustomerSummary();
+        summary.setId(tuple.get(offset, Long.class));
+        summary.setFullName(tuple.get(offset + 1, String.class) + " " + tuple.get(offset + 2, String.class));
+        summary.setEmail(tuple.get(offset + 3, String.class));
+        summary.setMobile(tuple.get(offset + 4, String.class));
+        return summary;
+    }
+}
@@ -4,6 +4,7 @@ import com.ejada.oms.customer.dto.req.AddressCreateRequest;
 import com.ejada.oms.customer.dto.req.CustomerCreateRequest;
 import com.ejada.oms.customer.entity.Address;
 import com.ejada.oms.customer.entity.Customer;
+import com.ejada.oms.customer.repository.AddressRepository;
 import com.ejada.oms.customer.repository.CustomerRepository;
 import com.ejada.oms.auth.entity.User;
 import com.ejada.oms.auth.service.UserService;
@@ -15,6 +16,13 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
 @Service
 @RequiredArgsConstructor
 @Slf4j
@@ -22,6 +30,7 @@ import org.springframework.transaction.annotation.Transactional;
 public class CustomerCommandService {
 
     private final CustomerRepository customerRepository;
+    private final AddressRepository addressRepository;
     private final UserService userService;
     private final OrderRepository orderRepository;
 
@@ -74,6 +83,44 @@ public class CustomerCommandService {
                 .orElseThrow(() -> BusinessException.customerNotFound(id));
     }
 
+    /**
+     * Reference to a customer without loading it, for use as an association target.
+     */
+    public Customer getReference(Long id) {
+        return customerRepository.getReferenceById(id);
+    }
+
+    /**
+     * Resolve the shipping address of a customer with a single query, without loading the customer.
+     */
+    public Address findDefaultAddress(Long customerId) {
+        return addressRepository.findFirstByCustomerIdOrderByIsDefaultDescIdAsc(customerId)
+                .orElseThrow(() -> customerRepository.existsById(customerId)
+                        ? BusinessException.customerHasNoAddress(customerId)
+                        : BusinessException.customerNotFound(customerId));
+    }
+
+    /**
+     * Resolve the shipping addresses of many customers with one query, keyed by customer ID.
+     * Customers without any address are absent from the result.
+     */
+    public Map<Long, Address> findDefaultAddresses(Collection<Long> customerIds) {
+        Comparator<Address> preference = Comparator
+                .comparing((Address address) -> !Boolean.TRUE.equals(address.getIsDefault()))
+                .thenComparing(Address::getId);
+
+        Map<Long, Address> addresses = new HashMap<>();
+        for (Address address : addressRepository.findAllByCustomerIdIn(customerIds)) {
+            addresses.merge(address.getCustomer().getId(), address,
+                    (current, candidate) -> preference.compare(candidate, current) < 0 ? candidate : current);
+        }
+        return addresses;
+    }
+
+    public Set<Long> findExistingIds(Collection<Long> ids) {
+        return new HashSet<>(customerRepository.findExistingIds(ids));
+    }
+
     public void delete(Long id) {
         Customer customer = findById(id);
         
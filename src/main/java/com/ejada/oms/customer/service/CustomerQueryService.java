@@ -1,13 +1,24 @@
 package com.ejada.oms.customer.service;
 
+import com.ejada.oms.core.config.properties.ApplicationProperties;
+import com.ejada.oms.core.config.properties.ApplicationProperties.CustomerProperties.LookupProperties;
+import com.ejada.oms.core.exception.BusinessException;
+import com.ejada.oms.customer.dto.res.CustomerLookupRow;
 import com.ejada.oms.customer.entity.Customer;
 import com.ejada.oms.customer.repository.CustomerRepository;
+import com.ejada.oms.customer.repository.CustomerSummaryProjection;
+import com.ejada.oms.customer.dto.res.CustomerSummary;
+import com.ejada.oms.core.dto.GeneralFilterDto;
 import com.ejada.oms.core.service.BaseListingService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
 
 @Service
 @RequiredArgsConstructor
@@ -15,6 +26,8 @@ import org.springframework.stereotype.Service;
 public class CustomerQueryService extends BaseListingService<Customer, Long> {
 
     private final CustomerRepository customerRepository;
+    private final CustomerSummaryProjection customerSummaryProjection;
+    private final ApplicationProperties applicationProperties;
 
     @Override
     protected JpaRepository<Customer, Long> getRepository() {
@@ -31,4 +44,33 @@ public class CustomerQueryService extends BaseListingService<Customer, Long> {
         return Customer.class;
     }
 
-}
\ No newline at end of file
+    /**
+     * Listing in the {@code view=SUMMARY} form, selected column by column in one statement.
+     */
+    public Slice<CustomerSummary> findAllSummaries(GeneralFilterDto filterDto) {
+        return findAll(filterDto, customerSummaryProjection);
+    }
+
+    /**
+     * Fuzzy lookup by name, mobile or email fragment, best matches first.
+     */
+    @Transactional(readOnly = true)
+    public List<CustomerLookupRow> lookup(String term, Integer limit) {
+        LookupProperties lookup = applicationProperties.getCustomers().getLookup();
+        String normalized = term == null ? "" : term.trim();
+        if (normalized.length() < lookup.getMinTermLength()) {
+            throw BusinessException.validationError(
+                    "Lookup term must have at least " + lookup.getMinTermLength() + " characters");
+        }
+        int maxResults = limit == null ? lookup.getMaxResults() : Math.max(1, Math.min(limit, lookup.getMaxResults()));
+
+        customerRepository.setSimilarityThreshold(lookup.getSimilarityThreshold());
+        List<CustomerLookupRow> rows = customerRepository.lookup(normalized, "%" + escapeLike(normalized) + "%", maxResults);
+        log.debug("Customer lookup '{}' matched {} customers", normalized, rows.size());
+        return rows;
+    }
+
+    private static String escapeLike(String value) {
+        return value.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+    }
+}
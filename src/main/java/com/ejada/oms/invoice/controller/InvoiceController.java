@@ -2,8 +2,11 @@ package com.ejada.oms.invoice.controller;
 
 import com.ejada.oms.core.dto.ResponseDto;
 import com.ejada.oms.core.dto.GeneralFilterDto;
+import com.ejada.oms.core.repository.Expansion;
 import com.ejada.oms.invoice.dto.res.InvoiceResponse;
+import com.ejada.oms.invoice.dto.res.InvoiceSummary;
 import com.ejada.oms.invoice.entity.Invoice;
+import com.ejada.oms.invoice.enums.InvoiceExpansion;
 import com.ejada.oms.invoice.mapper.InvoiceMapper;
 import com.ejada.oms.invoice.service.InvoiceQueryService;
 import io.swagger.v3.oas.annotations.Operation;
@@ -17,12 +20,13 @@ import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.Map;
+import java.util.Set;
 
 @RestController
 @RequestMapping("/${app.api.version:v1}${app.api.endpoints.invoices:/invoices}")
@@ -74,9 +78,17 @@ public class InvoiceController {
         @ApiResponse(responseCode = "401", description = "Unauthorized - Invalid or missing JWT token"),
         @ApiResponse(responseCode = "403", description = "Forbidden - Admin role required")
     })
-    public ResponseEntity<ResponseDto<Page<InvoiceResponse>>> getAll(GeneralFilterDto filterDto) {
-        Page<Invoice> invoices = invoiceQueryService.findAll(filterDto);
-        Page<InvoiceResponse> response = invoices.map(invoiceMapper::toResponse);
+    public ResponseEntity<ResponseDto<Slice<?>>> getAll(
+            GeneralFilterDto filterDto,
+            @Parameter(description = "Comma-separated associations to include (order); all when omitted", example = "order")
+            @RequestParam(value = "expand", required = false) String expand) {
+        if (filterDto.getView() == GeneralFilterDto.View.SUMMARY) {
+            Slice<InvoiceSummary> summaries = invoiceQueryService.findAllSummaries(filterDto);
+            return ResponseEntity.ok(ResponseDto.success(summaries, "Invoices retrieved successfully"));
+        }
+        Set<InvoiceExpansion> expansions = Expansion.parse(InvoiceExpansion.class, expand);
+        Slice<Invoice> invoices = invoiceQueryService.findAll(filterDto, InvoiceExpansion.listPlan(expansions));
+        Slice<InvoiceResponse> response = invoices.map(invoice -> invoiceMapper.toResponse(invoice, expansions));
         return ResponseEntity.ok(ResponseDto.success(response, "Invoices retrieved successfully"));
     }
 
@@ -121,9 +133,12 @@ public class InvoiceController {
     })
     public ResponseEntity<ResponseDto<InvoiceResponse>> getById(
             @Parameter(description = "Invoice ID", required = true, example = "1")
-            @PathVariable Long id) {
-        Invoice invoice = invoiceQueryService.findById(id);
-        return ResponseEntity.ok(ResponseDto.success(invoiceMapper.toResponse(invoice), "Invoice retrieved successfully"));
+            @PathVariable Long id,
+            @Parameter(description = "Comma-separated associations to include (order); all when omitted", example = "order")
+            @RequestParam(value = "expand", required = false) String expand) {
+        Set<InvoiceExpansion> expansions = Expansion.parse(InvoiceExpansion.class, expand);
+        Invoice invoice = invoiceQueryService.findById(id, InvoiceExpansion.detailPlan(expansions));
+        return ResponseEntity.ok(ResponseDto.success(invoiceMapper.toResponse(invoice, expansions), "Invoice retrieved successfully"));
     }
 
     @GetMapping("/order/{orderId}")
@@ -169,8 +184,11 @@ public class InvoiceController {
     })
     public ResponseEntity<ResponseDto<InvoiceResponse>> getInvoiceOfOrder(
             @Parameter(description = "Order ID", required = true, example = "1")
-            @PathVariable Long orderId) {
-        Invoice invoice = invoiceQueryService.findByOrderId(orderId);
-        return ResponseEntity.ok(ResponseDto.success(invoiceMapper.toResponse(invoice), "Order invoice retrieved successfully"));
+            @PathVariable Long orderId,
+            @Parameter(description = "Comma-separated associations to include (order); all when omitted", example = "order")
+            @RequestParam(value = "expand", required = false) String expand) {
+        Set<InvoiceExpansion> expansions = Expansion.parse(InvoiceExpansion.class, expand);
+        Invoice invoice = invoiceQueryService.findByOrderId(orderId, InvoiceExpansion.detailPlan(expansions));
+        return ResponseEntity.ok(ResponseDto.success(invoiceMapper.toResponse(invoice, expansions), "Order invoice retrieved successfully"));
     }
 }
\ No newline at end of file
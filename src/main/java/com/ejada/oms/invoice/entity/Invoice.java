@@ -17,7 +17,10 @@ import java.time.LocalDateTime;
  * @author Ali Hussein
  */
 @Entity
-@Table(name = "invoice")
+@Table(name = "invoice", indexes = {
+        @Index(name = "idx_invoice_status", columnList = "invoice_status"),
+        @Index(name = "idx_invoice_date_id", columnList = "invoice_date, invoice_id")
+})
 @Data
 @EqualsAndHashCode(callSuper = true)
 @NoArgsConstructor
@@ -0,0 +1,56 @@
+package com.ejada.oms.invoice.entity;
+
+import com.ejada.oms.core.entity.BaseEntity;
+import jakarta.persistence.*;
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import lombok.*;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * Tax rate for a country, or for one state of it, over a period of time.
+ * 
+ * @author Ali Hussein
+ */
+@Entity
+@Table(name = "tax_rate")
+@Data
+@EqualsAndHashCode(callSuper = true)
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@AttributeOverride(name = "id", column = @Column(name = "tax_rate_id"))
+public class TaxRate extends BaseEntity<Long> {
+
+    @NotBlank
+    @Column(name = "country", nullable = false, length = 100)
+    private String country;
+
+    /** Null when the rate applies to the whole country */
+    @Column(name = "state", length = 100)
+    private String state;
+
+    @NotNull
+    @DecimalMin(value = "0.0")
+    @Column(name = "rate", nullable = false, precision = 7, scale = 6)
+    private BigDecimal rate;
+
+    @NotNull
+    @Column(name = "effective_from", nullable = false)
+    private LocalDate effectiveFrom;
+
+    /** Exclusive end of the period, or null when open-ended */
+    @Column(name = "effective_to")
+    private LocalDate effectiveTo;
+
+    @Column(name = "created_at", nullable = false, updatable = false)
+    @Builder.Default
+    private LocalDateTime createdAt = LocalDateTime.now();
+
+    @Column(name = "updated_at", insertable = false, updatable = false)
+    private LocalDateTime updatedAt;
+}
@@ -0,0 +1,33 @@
+package com.ejada.oms.invoice.enums;
+
+import com.ejada.oms.core.repository.Expansion;
+import com.ejada.oms.core.repository.FetchPlan;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Associations of an invoice that {@code ?expand=} can include in {@code InvoiceResponse}.
+ *
+ * @author Ali Hussein
+ */
+@Getter
+@RequiredArgsConstructor
+public enum InvoiceExpansion implements Expansion {
+
+    ORDER("order", List.of("order", "order.customer", "order.customer.user"), false);
+
+    private final String parameter;
+    private final List<String> attributePaths;
+    private final boolean collection;
+
+    public static FetchPlan listPlan(Set<InvoiceExpansion> expansions) {
+        return FetchPlan.listing("Invoice.list", expansions);
+    }
+
+    public static FetchPlan detailPlan(Set<InvoiceExpansion> expansions) {
+        return FetchPlan.detail("Invoice.detail", expansions);
+    }
+}
@@ -3,12 +3,16 @@ package com.ejada.oms.invoice.mapper;
 import com.ejada.oms.invoice.dto.res.InvoiceResponse;
 import com.ejada.oms.invoice.dto.res.InvoiceSummary;
 import com.ejada.oms.invoice.entity.Invoice;
+import com.ejada.oms.invoice.enums.InvoiceExpansion;
 import com.ejada.oms.order.dto.res.OrderSummary;
 import com.ejada.oms.order.entity.Order;
 import com.ejada.oms.customer.dto.res.CustomerSummary;
 
 import org.mapstruct.Mapper;
 import org.mapstruct.Mapping;
+import org.mapstruct.Named;
+
+import java.util.Set;
 
 @Mapper(componentModel = "spring")
 public interface InvoiceMapper {
@@ -18,13 +22,28 @@ public interface InvoiceMapper {
 
     InvoiceSummary toSummary(Invoice invoice);
 
+    /**
+     * Maps the order only when the client asked for it, so it is never loaded otherwise.
+     */
+    default InvoiceResponse toResponse(Invoice invoice, Set<InvoiceExpansion> expand) {
+        InvoiceResponse response = toBaseResponse(invoice);
+        if (expand.contains(InvoiceExpansion.ORDER)) {
+            response.setOrder(orderToOrderSummary(invoice.getOrder()));
+        }
+        return response;
+    }
+
+    @Named("baseResponse")
+    @Mapping(target = "order", ignore = true)
+    InvoiceResponse toBaseResponse(Invoice invoice);
+
     // Manual mapping for OrderSummary to break circular dependency
     default OrderSummary orderToOrderSummary(Order order) {
         if (order == null) return null;
         
         OrderSummary summary = new OrderSummary();
         summary.setId(order.getId());
-        summary.setTotalAmount(order.getTotalAmount());
+        summary.setTotalAmount(order.getTotalAmount().toBigDecimal());
         summary.setOrderStatus(order.getOrderStatus());
         summary.setOrderDate(order.getOrderDate());
         
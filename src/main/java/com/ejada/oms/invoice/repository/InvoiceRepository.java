@@ -3,9 +3,13 @@ package com.ejada.oms.invoice.repository;
 import com.ejada.oms.invoice.entity.Invoice;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
-import java.util.Optional;
+import java.util.Collection;
+import java.util.List;
 
 /**
  * Repository for Invoice entity operations.
@@ -15,6 +19,18 @@ import java.util.Optional;
 @Repository
 public interface InvoiceRepository extends JpaRepository<Invoice, Long>, JpaSpecificationExecutor<Invoice> {
 
-    Optional<Invoice> findByOrderId(Long orderId);
     boolean existsByOrderId(Long orderId);
+
+    /**
+     * Reserves {@code blockSize} invoice numbers for the year and returns the first number after the block.
+     */
+    @Transactional
+    @Query(value = "INSERT INTO invoice_number_sequence (invoice_year, next_value) VALUES (:year, 1 + :blockSize) " +
+                   "ON CONFLICT (invoice_year) DO UPDATE SET next_value = invoice_number_sequence.next_value + :blockSize " +
+                   "RETURNING next_value",
+           nativeQuery = true)
+    Long reserveInvoiceNumbers(@Param("year") int year, @Param("blockSize") int blockSize);
+
+    @Query("SELECT i.order.id FROM Invoice i WHERE i.order.id IN :orderIds")
+    List<Long> findOrderIdsWithInvoice(@Param("orderIds") Collection<Long> orderIds);
 }
\ No newline at end of file
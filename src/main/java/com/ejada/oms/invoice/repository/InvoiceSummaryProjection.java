@@ -0,0 +1,41 @@
+package com.ejada.oms.invoice.repository;
+
+import com.ejada.oms.core.repository.SummaryProjection;
+import com.ejada.oms.invoice.dto.res.InvoiceSummary;
+import com.ejada.oms.invoice.entity.Invoice;
+import com.ejada.oms.invoice.enums.InvoiceStatus;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Selection;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Columns of {@link InvoiceSummary}; the invoice table alone covers them.
+ *
+ * @author Ali Hussein
+ */
+@Component
+public class InvoiceSummaryProjection implements SummaryProjection<Invoice, InvoiceSummary> {
+
+    @Override
+    public List<Selection<?>> select(Root<Invoice> root, CriteriaBuilder cb) {
+        return List.of(root.get("id"), root.get("invoiceNumber"), root.get("totalAmount"),
+                root.get("invoiceStatus"), root.get("invoiceDate"));
+    }
+
+    @Override
+    public InvoiceSummary map(Tuple tuple) {
+        InvoiceSummary summary = new InvoiceSummary();
+        summary.setId(tuple.get(0, Long.class));
+        summary.setInvoiceNumber(tuple.get(1, String.class));
+        summary.setTotalAmount(tuple.get(2, BigDecimal.class));
+        summary.setInvoiceStatus(tuple.get(3, InvoiceStatus.class));
+        summary.setInvoiceDate(tuple.get(4, LocalDateTime.class));
+        return summary;
+    }
+}
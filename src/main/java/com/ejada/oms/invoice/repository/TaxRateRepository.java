@@ -0,0 +1,23 @@
+package com.ejada.oms.invoice.repository;
+
+import com.ejada.oms.invoice.entity.TaxRate;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Repository for TaxRate entity operations.
+ * 
+ * @author Ali Hussein
+ */
+@Repository
+public interface TaxRateRepository extends JpaRepository<TaxRate, Long> {
+
+    /**
+     * Cheap summary of the table that changes whenever a row is inserted, updated or deleted.
+     */
+    @Query(value = "SELECT COUNT(*) || ':' || COALESCE(MAX(tax_rate_id), 0) || ':' || COALESCE(SUM(version), 0) || ':' || " +
+                   "COALESCE(CAST(MAX(COALESCE(updated_at, created_at)) AS VARCHAR), '') FROM tax_rate",
+           nativeQuery = true)
+    String findFingerprint();
+}
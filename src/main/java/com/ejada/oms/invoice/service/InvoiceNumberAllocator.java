@@ -0,0 +1,78 @@
+package com.ejada.oms.invoice.service;
+
+import com.ejada.oms.core.config.properties.ApplicationProperties;
+import com.ejada.oms.invoice.repository.InvoiceRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Year;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Hands out invoice numbers ({@code INV-YYYY-NNNNNN}) from blocks reserved in the per-year
+ * {@code invoice_number_sequence} table. Numbers inside a block are taken lock-free;
+ * only the thread that exhausts a block goes to the database for the next one.
+ * Reservations commit on their own, so numbers of rolled-back invoices are skipped, not reused.
+ *
+ * @author Ali Hussein
+ */
+@Component
+@Slf4j
+public class InvoiceNumberAllocator {
+
+    private final InvoiceRepository invoiceRepository;
+    private final TransactionTemplate reservationTransaction;
+    private final int blockSize;
+    private volatile Block current;
+
+    public InvoiceNumberAllocator(InvoiceRepository invoiceRepository,
+                                  PlatformTransactionManager transactionManager,
+                                  ApplicationProperties applicationProperties) {
+        this.invoiceRepository = invoiceRepository;
+        this.reservationTransaction = new TransactionTemplate(transactionManager);
+        this.reservationTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.blockSize = applicationProperties.getInvoices().getNumberBlockSize();
+    }
+
+    public String next() {
+        int year = Year.now().getValue();
+        while (true) {
+            Block block = current;
+            if (block != null && block.year == year) {
+                long number = block.next.getAndIncrement();
+                if (number < block.end) {
+                    return String.format("INV-%d-%06d", year, number);
+                }
+            }
+            refill(block, year);
+        }
+    }
+
+    private synchronized void refill(Block exhausted, int year) {
+        // Another thread may have refilled while this one waited for the lock
+        if (current != exhausted) {
+            return;
+        }
+        Long end = reservationTransaction.execute(status -> invoiceRepository.reserveInvoiceNumbers(year, blockSize));
+        if (end == null) {
+            throw new IllegalStateException("Could not reserve invoice numbers for " + year);
+        }
+        current = new Block(year, end - blockSize, end);
+        log.debug("Reserved invoice numbers {} to {} for {}", end - blockSize, end - 1, year);
+    }
+
+    private static final class Block {
+        private final int year;
+        private final AtomicLong next;
+        private final long end;
+
+        private Block(int year, long start, long end) {
+            this.year = year;
+            this.next = new AtomicLong(start);
+            this.end = end;
+        }
+    }
+}
@@ -2,11 +2,17 @@ package com.ejada.oms.invoice.service;
 
 import com.ejada.oms.invoice.entity.Invoice;
 import com.ejada.oms.invoice.repository.InvoiceRepository;
+import com.ejada.oms.invoice.repository.InvoiceSummaryProjection;
+import com.ejada.oms.invoice.dto.res.InvoiceSummary;
+import com.ejada.oms.core.dto.GeneralFilterDto;
+import com.ejada.oms.core.repository.FetchPlan;
 import com.ejada.oms.core.service.BaseListingService;
 import com.ejada.oms.core.exception.ResourceNotFoundException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import org.springframework.stereotype.Service;
 
@@ -16,6 +22,7 @@ import org.springframework.stereotype.Service;
 public class InvoiceQueryService extends BaseListingService<Invoice, Long> {
 
     private final InvoiceRepository invoiceRepository;
+    private final InvoiceSummaryProjection invoiceSummaryProjection;
 
     @Override
     protected JpaRepository<Invoice, Long> getRepository() {
@@ -32,18 +39,26 @@ public class InvoiceQueryService extends BaseListingService<Invoice, Long> {
         return Invoice.class;
     }
 
+    /**
+     * Listing in the {@code view=SUMMARY} form, selected column by column in one statement.
+     */
+    public Slice<InvoiceSummary> findAllSummaries(GeneralFilterDto filterDto) {
+        return findAll(filterDto, invoiceSummaryProjection);
+    }
+
 
     // Get invoice by ID
-    public Invoice findById(Long invoiceId) {
+    public Invoice findById(Long invoiceId, FetchPlan fetchPlan) {
         log.debug("Finding invoice with ID: {}", invoiceId);
-        return invoiceRepository.findById(invoiceId)
+        return fetchById(invoiceId, fetchPlan)
                 .orElseThrow(() -> new ResourceNotFoundException("Invoice not found with ID: " + invoiceId));
     }
 
     // Get invoice of an order
-    public Invoice findByOrderId(Long orderId) {
-        log.debug("Finding invoice for order ID: {}", orderId);
-        return invoiceRepository.findByOrderId(orderId)
+    public Invoice findByOrderId(Long orderId, FetchPlan fetchPlan) {
+        log.debug("Finding invoice for order ID: {} with fetch plan {}", orderId, fetchPlan);
+        Specification<Invoice> ofOrder = (root, query, cb) -> cb.equal(root.get("order").get("id"), orderId);
+        return invoiceRepository.findBy(ofOrder, query -> query.project(fetchPlan.getAttributePaths()).one())
                 .orElseThrow(() -> new ResourceNotFoundException("Invoice not found for order ID: " + orderId));
     }
 }
\ No newline at end of file
@@ -4,12 +4,17 @@ import com.ejada.oms.invoice.entity.Invoice;
 import com.ejada.oms.invoice.repository.InvoiceRepository;
 import com.ejada.oms.order.entity.Order;
 import com.ejada.oms.core.exception.BusinessException;
+import com.ejada.oms.core.util.Money;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
 
 @Service
 @RequiredArgsConstructor
@@ -18,6 +23,13 @@ import java.math.BigDecimal;
 public class InvoiceService {
 
     private final InvoiceRepository invoiceRepository;
+    private final InvoiceNumberAllocator invoiceNumberAllocator;
+    private final TaxRateService taxRateService;
+
+    @Transactional(readOnly = true)
+    public boolean hasInvoice(Long orderId) {
+        return invoiceRepository.existsByOrderId(orderId);
+    }
 
     public Invoice generateInvoiceForOrder(Order order) {
         log.info("Auto-generating invoice for order ID: {}", order.getId());
@@ -26,20 +38,42 @@ public class InvoiceService {
             throw BusinessException.invoiceAlreadyExists(order.getId());
         }
 
-        BigDecimal invoiceAmount = order.getTotalAmount();
-        BigDecimal taxRate = new BigDecimal("0.08"); // 8% tax rate
-        BigDecimal taxAmount = invoiceAmount.multiply(taxRate);
-        BigDecimal totalAmount = invoiceAmount.add(taxAmount);
+        Invoice saved = invoiceRepository.save(buildInvoice(order));
+        log.info("Invoice generated with ID: {}", saved.getId());
+        return saved;
+    }
 
-        Invoice invoice = Invoice.builder()
-                .order(order)
-                .invoiceAmount(invoiceAmount)
-                .taxAmount(taxAmount)
-                .totalAmount(totalAmount)
-                .build();
+    /**
+     * Generates invoices for many orders with one existence check and one batched insert.
+     * Orders that already have an invoice are skipped.
+     */
+    public List<Invoice> generateInvoicesForOrders(Collection<Order> orders) {
+        if (orders.isEmpty()) {
+            return List.of();
+        }
 
-        Invoice saved = invoiceRepository.save(invoice);
-        log.info("Invoice generated with ID: {}", saved.getId());
+        Set<Long> invoiced = new HashSet<>(invoiceRepository.findOrderIdsWithInvoice(
+                orders.stream().map(Order::getId).toList()));
+        List<Invoice> invoices = orders.stream()
+                .filter(order -> !invoiced.contains(order.getId()))
+                .map(this::buildInvoice)
+                .toList();
+
+        List<Invoice> saved = invoiceRepository.saveAll(invoices);
+        log.info("Generated {} invoices, {} orders already invoiced", saved.size(), invoiced.size());
         return saved;
     }
+
+    private Invoice buildInvoice(Order order) {
+        Money invoiceAmount = order.getTotalAmount();
+        Money taxAmount = invoiceAmount.timesRate(taxRateService.rateFor(order.getShippingAddress(), LocalDate.now()));
+
+        return Invoice.builder()
+                .order(order)
+                .invoiceNumber(invoiceNumberAllocator.next())
+                .invoiceAmount(invoiceAmount.toBigDecimal())
+                .taxAmount(taxAmount.toBigDecimal())
+                .totalAmount(invoiceAmount.plus(taxAmount).toBigDecimal())
+                .build();
+    }
 }
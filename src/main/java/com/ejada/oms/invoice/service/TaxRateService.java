@@ -0,0 +1,68 @@
+package com.ejada.oms.invoice.service;
+
+import com.ejada.oms.core.config.properties.ApplicationProperties;
+import com.ejada.oms.core.config.properties.ApplicationProperties.InvoiceProperties.TaxProperties;
+import com.ejada.oms.core.util.Money;
+import com.ejada.oms.customer.entity.Address;
+import com.ejada.oms.invoice.repository.TaxRateRepository;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Tax rate lookups served from an in-memory {@link TaxRateTable}.
+ * The table is loaded at startup and swapped atomically whenever the {@code tax_rate} table changes,
+ * which is detected by polling a cheap fingerprint query. Lookups never touch the database.
+ *
+ * @author Ali Hussein
+ */
+@Service
+@Slf4j
+public class TaxRateService {
+
+    private final TaxRateRepository taxRateRepository;
+    private final TaxProperties properties;
+    private final AtomicReference<TaxRateTable> table = new AtomicReference<>();
+    private volatile String fingerprint;
+
+    public TaxRateService(TaxRateRepository taxRateRepository, ApplicationProperties applicationProperties) {
+        this.taxRateRepository = taxRateRepository;
+        this.properties = applicationProperties.getInvoices().getTax();
+    }
+
+    @PostConstruct
+    void load() {
+        reload();
+    }
+
+    /**
+     * @return the tax rate in millionths for the address on the given date
+     */
+    public long rateFor(Address address, LocalDate date) {
+        return table.get().rateFor(address.getCountry(), address.getState(), date);
+    }
+
+    @Scheduled(fixedDelayString = "${app.invoices.tax.refresh-interval-ms}",
+               initialDelayString = "${app.invoices.tax.refresh-interval-ms}")
+    public void refresh() {
+        if (!Objects.equals(fingerprint, taxRateRepository.findFingerprint())) {
+            reload();
+        }
+    }
+
+    private synchronized void reload() {
+        String current = taxRateRepository.findFingerprint();
+        TaxRateTable previous = table.get();
+        long version = previous != null ? previous.getVersion() + 1 : 1;
+
+        TaxRateTable loaded = TaxRateTable.of(version, Money.rateOf(properties.getDefaultRate()), taxRateRepository.findAll());
+        table.set(loaded);
+        fingerprint = current;
+        log.info("Loaded tax rate table version {} with {} rates", version, loaded.size());
+    }
+}
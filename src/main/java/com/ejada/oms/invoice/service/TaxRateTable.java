@@ -0,0 +1,94 @@
+package com.ejada.oms.invoice.service;
+
+import com.ejada.oms.core.util.Money;
+import com.ejada.oms.invoice.entity.TaxRate;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Immutable snapshot of all tax rates, indexed by region.
+ * Rates are kept in millionths (see {@link Money#rateOf}) so invoice pricing needs no conversion.
+ * A new snapshot replaces the old one as a whole; readers never see a partial reload.
+ *
+ * @author Ali Hussein
+ */
+public final class TaxRateTable {
+
+    private final long version;
+    private final long defaultRate;
+    private final Map<String, Period[]> periodsByRegion;
+
+    private TaxRateTable(long version, long defaultRate, Map<String, Period[]> periodsByRegion) {
+        this.version = version;
+        this.defaultRate = defaultRate;
+        this.periodsByRegion = periodsByRegion;
+    }
+
+    public static TaxRateTable of(long version, long defaultRate, Collection<TaxRate> rates) {
+        Map<String, List<Period>> grouped = new HashMap<>();
+        for (TaxRate rate : rates) {
+            grouped.computeIfAbsent(key(rate.getCountry(), rate.getState()), region -> new ArrayList<>())
+                    .add(new Period(rate.getEffectiveFrom(), rate.getEffectiveTo(), Money.rateOf(rate.getRate())));
+        }
+
+        Map<String, Period[]> periodsByRegion = new HashMap<>(grouped.size() * 2);
+        grouped.forEach((region, periods) -> periodsByRegion.put(region, periods.stream()
+                .sorted(Comparator.comparing(Period::from).reversed())
+                .toArray(Period[]::new)));
+        return new TaxRateTable(version, defaultRate, Map.copyOf(periodsByRegion));
+    }
+
+    /**
+     * Rate in millionths for the region on the given date: the state rate if one applies,
+     * otherwise the country rate, otherwise the default rate.
+     */
+    public long rateFor(String country, String state, LocalDate date) {
+        if (country == null) {
+            return defaultRate;
+        }
+        if (state != null) {
+            Period period = find(periodsByRegion.get(key(country, state)), date);
+            if (period != null) {
+                return period.rate();
+            }
+        }
+        Period period = find(periodsByRegion.get(key(country, null)), date);
+        return period != null ? period.rate() : defaultRate;
+    }
+
+    public long getVersion() {
+        return version;
+    }
+
+    public int size() {
+        return periodsByRegion.values().stream().mapToInt(periods -> periods.length).sum();
+    }
+
+    private static Period find(Period[] periods, LocalDate date) {
+        if (periods == null) {
+            return null;
+        }
+        // Newest period first
+        for (Period period : periods) {
+            if (!date.isBefore(period.from())) {
+                return period.to() == null || date.isBefore(period.to()) ? period : null;
+            }
+        }
+        return null;
+    }
+
+    private static String key(String country, String state) {
+        String region = country.trim().toUpperCase(Locale.ROOT);
+        return state == null || state.isBlank() ? region : region + '/' + state.trim().toUpperCase(Locale.ROOT);
+    }
+
+    private record Period(LocalDate from, LocalDate to, long rate) {
+    }
+}
@@ -3,12 +3,25 @@ package com.ejada.oms.order.controller;
 import com.ejada.oms.core.config.properties.ApplicationProperties;
 import com.ejada.oms.core.dto.ResponseDto;
 import com.ejada.oms.core.dto.GeneralFilterDto;
+import com.ejada.oms.core.repository.Expansion;
+import com.ejada.oms.core.service.TransactionRetryExecutor;
+import com.ejada.oms.order.dto.res.OrderBatchResponse;
+import com.ejada.oms.order.dto.res.OrderBulkApproveResponse;
+import com.ejada.oms.order.dto.res.OrderIntakeTicketResponse;
 import com.ejada.oms.order.dto.res.OrderResponse;
+import com.ejada.oms.order.dto.res.OrderSummary;
 import com.ejada.oms.order.entity.Order;
+import com.ejada.oms.order.enums.OrderExpansion;
+import com.ejada.oms.order.dto.req.OrderBatchCreateRequest;
+import com.ejada.oms.order.dto.req.OrderBulkApproveRequest;
 import com.ejada.oms.order.dto.req.OrderCreateRequest;
 import com.ejada.oms.order.mapper.OrderMapper;
 import com.ejada.oms.order.service.OrderQueryService;
+import com.ejada.oms.order.service.OrderBatchCommandService;
 import com.ejada.oms.order.service.OrderCommandService;
+import com.ejada.oms.order.service.OrderIdempotencyService;
+import com.ejada.oms.order.service.OrderIntakeService;
+import com.ejada.oms.order.service.LargeOrderCommandService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -23,14 +36,18 @@ import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
 
+import java.io.InputStream;
 import java.util.Map;
+import java.util.Set;
 
 @RestController
 @RequestMapping("/${app.api.version:v1}${app.api.endpoints.orders:/orders}")
@@ -43,6 +60,11 @@ public class OrderController {
 
     private final OrderQueryService orderQueryService;
     private final OrderCommandService orderCommandService;
+    private final OrderBatchCommandService orderBatchCommandService;
+    private final OrderIdempotencyService orderIdempotencyService;
+    private final OrderIntakeService orderIntakeService;
+    private final LargeOrderCommandService largeOrderCommandService;
+    private final TransactionRetryExecutor transactionRetryExecutor;
     private final OrderMapper orderMapper;
     private final ApplicationProperties applicationProperties;
 
@@ -86,9 +108,17 @@ public class OrderController {
         @ApiResponse(responseCode = "401", description = "Unauthorized - Invalid or missing JWT token"),
         @ApiResponse(responseCode = "403", description = "Forbidden - Admin role required")
     })
-    public ResponseEntity<ResponseDto<Page<OrderResponse>>> getAll(GeneralFilterDto filterDto) {
-        Page<Order> orders = orderQueryService.findAll(filterDto);
-        Page<OrderResponse> response = orders.map(orderMapper::toResponse);
+    public ResponseEntity<ResponseDto<Slice<?>>> getAll(
+            GeneralFilterDto filterDto,
+            @Parameter(description = "Comma-separated associations to include (customer, createdByUser, items, invoice); all when omitted", example = "customer,items")
+            @RequestParam(value = "expand", required = false) String expand) {
+        if (filterDto.getView() == GeneralFilterDto.View.SUMMARY) {
+            Slice<OrderSummary> summaries = orderQueryService.findAllSummaries(filterDto);
+            return ResponseEntity.ok(ResponseDto.success(summaries, "Orders retrieved successfully"));
+        }
+        Set<OrderExpansion> expansions = Expansion.parse(OrderExpansion.class, expand);
+        Slice<Order> orders = orderQueryService.findAll(filterDto, OrderExpansion.listPlan(expansions));
+        Slice<OrderResponse> response = orders.map(order -> orderMapper.toResponse(order, expansions));
         return ResponseEntity.ok(ResponseDto.success(response, "Orders retrieved successfully"));
     }
 
@@ -128,16 +158,21 @@ public class OrderController {
     })
     public ResponseEntity<ResponseDto<OrderResponse>> getById(
             @Parameter(description = "Order ID", required = true, example = "1")
-            @PathVariable Long id) {
-        Order order = orderCommandService.findById(id);
-        return ResponseEntity.ok(ResponseDto.success(orderMapper.toResponse(order), "Order retrieved successfully"));
+            @PathVariable Long id,
+            @Parameter(description = "Comma-separated associations to include (customer, createdByUser, items, invoice); all when omitted", example = "customer,items")
+            @RequestParam(value = "expand", required = false) String expand) {
+        Set<OrderExpansion> expansions = Expansion.parse(OrderExpansion.class, expand);
+        Order order = orderQueryService.findById(id, OrderExpansion.detailPlan(expansions));
+        return ResponseEntity.ok(ResponseDto.success(orderMapper.toResponse(order, expansions), "Order retrieved successfully"));
     }
 
     @PostMapping
     @Operation(
         summary = "Create a new order for customer",
         description = "**[Required API]** Admin creates a new order on behalf of a customer. " +
-                     "Order is created in PENDING status and requires approval to be confirmed."
+                     "Order is created in PENDING status and requires approval to be confirmed. " +
+                     "Retries that send the same Idempotency-Key header receive the first response and create no new order; " +
+                     "reusing a key for a different request is rejected with 422."
     )
     @ApiResponses(value = {
         @ApiResponse(responseCode = "201", description = "Order created successfully",
@@ -167,6 +202,7 @@ public class OrderController {
         @ApiResponse(responseCode = "400", description = "Bad Request - Invalid input data or validation errors"),
         @ApiResponse(responseCode = "404", description = "Customer or Product not found"),
         @ApiResponse(responseCode = "409", description = "Conflict - Insufficient stock for requested products"),
+        @ApiResponse(responseCode = "422", description = "Idempotency-Key already used for a different request"),
         @ApiResponse(responseCode = "401", description = "Unauthorized - Invalid or missing JWT token"),
         @ApiResponse(responseCode = "403", description = "Forbidden - Admin role required")
     })
@@ -181,12 +217,200 @@ public class OrderController {
                             "quantity": 2
                           }]
                         }""")))
-            @Valid @org.springframework.web.bind.annotation.RequestBody OrderCreateRequest request) {
-        Order order = orderCommandService.create(request);
+            @Valid @org.springframework.web.bind.annotation.RequestBody OrderCreateRequest request,
+
+            @Parameter(description = "Client-generated key that makes retries of this request safe", example = "5f1c2a9e-order-42")
+            @RequestHeader(value = "Idempotency-Key", required = false) String idempotencyKey) {
+        if (idempotencyKey != null) {
+            return ResponseEntity.status(HttpStatus.CREATED)
+                    .body(orderIdempotencyService.create(idempotencyKey, request));
+        }
+        Order order = transactionRetryExecutor.execute(() -> orderCommandService.create(request));
         return ResponseEntity.status(HttpStatus.CREATED)
                 .body(ResponseDto.success(orderMapper.toResponse(order), "Order created successfully", HttpStatus.CREATED));
     }
 
+    @PostMapping("/batch")
+    @Operation(
+        summary = "Create many orders in one request",
+        description = "Admin creates up to 1000 orders at once. Customers and products are resolved with set-based queries " +
+                     "and each order succeeds or fails on its own; the response reports the created order ID or the error code per order."
+    )
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Batch processed, see per-order results",
+            content = @Content(mediaType = "application/json",
+                schema = @Schema(implementation = ResponseDto.class),
+                examples = @ExampleObject(value = """
+                    {
+                      "message": "Order batch processed",
+                      "statusCode": 200,
+                      "success": true,
+                      "timestamp": "2025-08-15T18:50:59.240",
+                      "data": {
+                        "created": 1,
+                        "failed": 1,
+                        "results": [
+                          { "index": 0, "success": true, "orderId": 6 },
+                          { "index": 1, "success": false, "errorCode": "INSUFFICIENT_STOCK",
+                            "message": "Insufficient stock for product 'Gaming Mouse'. Available: 1, Requested: 2" }
+                        ]
+                      }
+                    }"""))),
+        @ApiResponse(responseCode = "400", description = "Bad Request - Invalid input data or validation errors"),
+        @ApiResponse(responseCode = "401", description = "Unauthorized - Invalid or missing JWT token"),
+        @ApiResponse(responseCode = "403", description = "Forbidden - Admin role required")
+    })
+    public ResponseEntity<ResponseDto<OrderBatchResponse>> createBatch(
+            @Valid @org.springframework.web.bind.annotation.RequestBody OrderBatchCreateRequest request) {
+        OrderBatchResponse response = transactionRetryExecutor.execute(
+                () -> orderBatchCommandService.createBatch(request.getOrders()));
+        return ResponseEntity.ok(ResponseDto.success(response, "Order batch processed"));
+    }
+
+    @PostMapping(value = "/large", consumes = MediaType.APPLICATION_JSON_VALUE)
+    @Operation(
+        summary = "Create an order with a very large number of items",
+        description = "Same body as order creation, but `orderItems` is read as a stream and written in chunks, " +
+                     "so orders with tens of thousands of lines run in bounded memory. " +
+                     "`customerId` must appear before `orderItems`. Returns an order summary instead of the full item list."
+    )
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "201", description = "Order created successfully",
+            content = @Content(mediaType = "application/json",
+                schema = @Schema(implementation = ResponseDto.class),
+                examples = @ExampleObject(value = """
+                    {
+                      "message": "Order created successfully",
+                      "statusCode": 201,
+                      "success": true,
+                      "timestamp": "2025-08-15T18:50:59.240",
+                      "data": {
+                        "id": 8,
+                        "orderStatus": "PENDING",
+                        "totalAmount": 799900.00,
+                        "orderDate": "2025-08-15T18:50:59"
+                      }
+                    }"""))),
+        @ApiResponse(responseCode = "400", description = "Bad Request - Malformed body or invalid order items"),
+        @ApiResponse(responseCode = "404", description = "Customer or Product not found"),
+        @ApiResponse(responseCode = "409", description = "Conflict - Insufficient stock for requested products"),
+        @ApiResponse(responseCode = "401", description = "Unauthorized - Invalid or missing JWT token"),
+        @ApiResponse(responseCode = "403", description = "Forbidden - Admin role required")
+    })
+    public ResponseEntity<ResponseDto<OrderSummary>> createLarge(InputStream body) {
+        Order order = largeOrderCommandService.create(body);
+        return ResponseEntity.status(HttpStatus.CREATED)
+                .body(ResponseDto.success(orderMapper.toSummary(order), "Order created successfully", HttpStatus.CREATED));
+    }
+
+    @PostMapping("/intake")
+    @Operation(
+        summary = "Queue an order for asynchronous creation",
+        description = "Validates the order and queues it for creation, answering immediately with a ticket. " +
+                     "Queued orders are created in micro-batches; poll the ticket for the outcome. " +
+                     "Only available when asynchronous intake is enabled."
+    )
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "202", description = "Order accepted and queued",
+            content = @Content(mediaType = "application/json",
+                schema = @Schema(implementation = ResponseDto.class),
+                examples = @ExampleObject(value = """
+                    {
+                      "message": "Order accepted for processing",
+                      "statusCode": 202,
+                      "success": true,
+                      "timestamp": "2025-08-15T18:50:59.240",
+                      "data": {
+                        "ticketId": "3f0c6d1e-8a51-4c1e-9a3b-2d9f4b7c1a20",
+                        "status": "QUEUED",
+                        "submittedAt": "2025-08-15T18:50:59"
+                      }
+                    }"""))),
+        @ApiResponse(responseCode = "400", description = "Bad Request - Invalid input data or validation errors"),
+        @ApiResponse(responseCode = "503", description = "Intake disabled or queue full - retry later or use the synchronous endpoint"),
+        @ApiResponse(responseCode = "401", description = "Unauthorized - Invalid or missing JWT token"),
+        @ApiResponse(responseCode = "403", description = "Forbidden - Admin role required")
+    })
+    public ResponseEntity<ResponseDto<OrderIntakeTicketResponse>> submit(
+            @Valid @org.springframework.web.bind.annotation.RequestBody OrderCreateRequest request) {
+        OrderIntakeTicketResponse ticket = orderIntakeService.submit(request);
+        return ResponseEntity.status(HttpStatus.ACCEPTED)
+                .body(ResponseDto.success(ticket, "Order accepted for processing", HttpStatus.ACCEPTED));
+    }
+
+    @GetMapping("/intake/{ticketId}")
+    @Operation(
+        summary = "Get the status of a queued order",
+        description = "Returns QUEUED while the order waits, then CREATED with the order ID or FAILED with the error code."
+    )
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Ticket status retrieved successfully",
+            content = @Content(mediaType = "application/json",
+                schema = @Schema(implementation = ResponseDto.class),
+                examples = @ExampleObject(value = """
+                    {
+                      "message": "Order intake status retrieved successfully",
+                      "statusCode": 200,
+                      "success": true,
+                      "timestamp": "2025-08-15T18:51:00.120",
+                      "data": {
+                        "ticketId": "3f0c6d1e-8a51-4c1e-9a3b-2d9f4b7c1a20",
+                        "status": "CREATED",
+                        "orderId": 7,
+                        "submittedAt": "2025-08-15T18:50:59",
+                        "completedAt": "2025-08-15T18:50:59"
+                      }
+                    }"""))),
+        @ApiResponse(responseCode = "404", description = "Ticket not found or expired"),
+        @ApiResponse(responseCode = "401", description = "Unauthorized - Invalid or missing JWT token"),
+        @ApiResponse(responseCode = "403", description = "Forbidden - Admin role required")
+    })
+    public ResponseEntity<ResponseDto<OrderIntakeTicketResponse>> getIntakeStatus(
+            @Parameter(description = "Ticket ID returned when the order was queued", required = true)
+            @PathVariable String ticketId) {
+        return ResponseEntity.ok(ResponseDto.success(orderIntakeService.findTicket(ticketId),
+                "Order intake status retrieved successfully"));
+    }
+
+    @PutMapping("/approve")
+    @Operation(
+        summary = "Approve many orders at once",
+        description = "Admin approves up to 10000 orders, chosen either by `orderIds` or by a `filter` (only PENDING orders match). " +
+                     "Eligible orders are confirmed with one set-based update and invoiced in one batched insert; " +
+                     "the response reports the outcome for every order."
+    )
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Approval processed, see per-order results",
+            content = @Content(mediaType = "application/json",
+                schema = @Schema(implementation = ResponseDto.class),
+                examples = @ExampleObject(value = """
+                    {
+                      "message": "Order approval processed",
+                      "statusCode": 200,
+                      "success": true,
+                      "timestamp": "2025-08-15T18:50:59.240",
+                      "data": {
+                        "approved": 1,
+                        "failed": 2,
+                        "results": [
+                          { "orderId": 5, "success": true },
+                          { "orderId": 1, "success": false, "errorCode": "INVALID_ORDER_STATUS",
+                            "message": "Order cannot be approved in status: Confirmed" },
+                          { "orderId": 999, "success": false, "errorCode": "ORDER_NOT_FOUND",
+                            "message": "Order not found with ID: 999" }
+                        ]
+                      }
+                    }"""))),
+        @ApiResponse(responseCode = "400", description = "Bad Request - Provide either orderIds or filter"),
+        @ApiResponse(responseCode = "401", description = "Unauthorized - Invalid or missing JWT token"),
+        @ApiResponse(responseCode = "403", description = "Forbidden - Admin role required")
+    })
+    public ResponseEntity<ResponseDto<OrderBulkApproveResponse>> approveAll(
+            @Valid @org.springframework.web.bind.annotation.RequestBody OrderBulkApproveRequest request) {
+        OrderBulkApproveResponse response = orderCommandService.approveAll(request);
+        return ResponseEntity.ok(ResponseDto.success(response, "Order approval processed"));
+    }
+
     @PutMapping("/{id}/approve")
     @Operation(
         summary = "Approve order (PENDING → CONFIRMED)",
@@ -279,14 +503,18 @@ public class OrderController {
             @RequestParam(defaultValue = "0") Integer page,
             
             @Parameter(description = "Number of items per page. If not provided, uses default from configuration", example = "20")
-            @RequestParam(required = false) Integer size) {
+            @RequestParam(required = false) Integer size,
+
+            @Parameter(description = "Comma-separated associations to include (customer, createdByUser, items, invoice); all when omitted", example = "customer,items")
+            @RequestParam(value = "expand", required = false) String expand) {
 
         // Use configuration values with fallbacks
         int pageSize = size != null ? size : applicationProperties.getPagination().getDefaultPageSize();
         
         Pageable pageable = PageRequest.of(page, pageSize);
-        Page<Order> orders = orderQueryService.findByCustomerId(customerId, pageable);
-        Page<OrderResponse> response = orders.map(orderMapper::toResponse);
+        Set<OrderExpansion> expansions = Expansion.parse(OrderExpansion.class, expand);
+        Page<Order> orders = orderQueryService.findByCustomerId(customerId, pageable, OrderExpansion.listPlan(expansions));
+        Page<OrderResponse> response = orders.map(order -> orderMapper.toResponse(order, expansions));
         return ResponseEntity.ok(ResponseDto.success(response, "Customer orders retrieved successfully"));
     }
 
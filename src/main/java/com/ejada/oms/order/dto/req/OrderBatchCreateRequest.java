@@ -0,0 +1,17 @@
+package com.ejada.oms.order.dto.req;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+public class OrderBatchCreateRequest {
+
+    @NotEmpty(message = "Orders are required")
+    @Size(max = 1000, message = "A batch can contain at most 1000 orders")
+    @Valid
+    private List<OrderCreateRequest> orders;
+}
@@ -0,0 +1,18 @@
+package com.ejada.oms.order.dto.req;
+
+import com.ejada.oms.core.dto.GeneralFilterDto;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.Size;
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+public class OrderBulkApproveRequest {
+
+    @Size(max = 10000, message = "Cannot approve more than 10000 orders at once")
+    private List<Long> orderIds;
+
+    @Valid
+    private GeneralFilterDto filter;
+}
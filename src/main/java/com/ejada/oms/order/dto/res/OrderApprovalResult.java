@@ -0,0 +1,26 @@
+package com.ejada.oms.order.dto.res;
+
+import com.ejada.oms.core.exception.BusinessException;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class OrderApprovalResult {
+    private Long orderId;
+    private boolean success;
+    private String errorCode;
+    private String message;
+
+    public static OrderApprovalResult approved(Long orderId) {
+        return new OrderApprovalResult(orderId, true, null, null);
+    }
+
+    public static OrderApprovalResult failed(Long orderId, BusinessException error) {
+        return new OrderApprovalResult(orderId, false, error.getErrorCode(), error.getMessage());
+    }
+}
@@ -0,0 +1,27 @@
+package com.ejada.oms.order.dto.res;
+
+import com.ejada.oms.core.exception.BusinessException;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class OrderBatchItemResult {
+    private int index;
+    private boolean success;
+    private Long orderId;
+    private String errorCode;
+    private String message;
+
+    public static OrderBatchItemResult created(int index, Long orderId) {
+        return new OrderBatchItemResult(index, true, orderId, null, null);
+    }
+
+    public static OrderBatchItemResult failed(int index, BusinessException error) {
+        return new OrderBatchItemResult(index, false, null, error.getErrorCode(), error.getMessage());
+    }
+}
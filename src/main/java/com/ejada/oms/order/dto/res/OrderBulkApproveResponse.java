@@ -0,0 +1,16 @@
+package com.ejada.oms.order.dto.res;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class OrderBulkApproveResponse {
+    private int approved;
+    private int failed;
+    private List<OrderApprovalResult> results;
+}
@@ -0,0 +1,23 @@
+package com.ejada.oms.order.dto.res;
+
+import com.ejada.oms.order.enums.OrderIntakeStatus;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class OrderIntakeTicketResponse {
+    private String ticketId;
+    private OrderIntakeStatus status;
+    private Long orderId;
+    private String errorCode;
+    private String message;
+    private LocalDateTime submittedAt;
+    private LocalDateTime completedAt;
+}
@@ -1,17 +1,16 @@
 package com.ejada.oms.order.entity;
 
 import com.ejada.oms.core.entity.AuditableEntity;
+import com.ejada.oms.core.util.Money;
 import com.ejada.oms.customer.entity.Customer;
 import com.ejada.oms.customer.entity.Address;
 import com.ejada.oms.auth.entity.User;
 import com.ejada.oms.invoice.entity.Invoice;
 import com.ejada.oms.order.enums.OrderStatus;
 import jakarta.persistence.*;
-import jakarta.validation.constraints.DecimalMin;
 import jakarta.validation.constraints.NotNull;
 import lombok.*;
 
-import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
@@ -22,7 +21,10 @@ import java.util.List;
  * @author Ali Hussein
  */
 @Entity
-@Table(name = "order_table")
+@Table(name = "order_table", indexes = {
+        @Index(name = "idx_order_status", columnList = "order_status"),
+        @Index(name = "idx_order_date_id", columnList = "order_date, order_id")
+})
 @Data
 @EqualsAndHashCode(callSuper = true)
 @NoArgsConstructor
@@ -47,9 +49,8 @@ public class Order extends AuditableEntity<Long> {
     private User createdByUser;
 
     @NotNull
-    @DecimalMin(value = "0.0")
     @Column(name = "total_amount", nullable = false, precision = 10, scale = 2)
-    private BigDecimal totalAmount;
+    private Money totalAmount;
 
     @Enumerated(EnumType.STRING)
     @Column(name = "order_status", nullable = false, length = 20)
@@ -67,16 +68,21 @@ public class Order extends AuditableEntity<Long> {
     @OneToOne(mappedBy = "order", cascade = CascadeType.ALL, fetch = FetchType.LAZY)
     private Invoice invoice;
 
-    public BigDecimal calculateTotal() {
-        return orderItems.stream()
-                .map(OrderItem::getSubtotal)
-                .reduce(BigDecimal.ZERO, BigDecimal::add);
+    public Money calculateTotal() {
+        Money total = Money.ZERO;
+        for (OrderItem orderItem : orderItems) {
+            total = total.plus(orderItem.getSubtotal());
+        }
+        return total;
     }
 
+    /**
+     * Adds an item and keeps the total up to date incrementally, so building an order stays linear in its size.
+     */
     public void addOrderItem(OrderItem orderItem) {
         orderItems.add(orderItem);
         orderItem.setOrder(this);
-        this.totalAmount = calculateTotal();
+        this.totalAmount = (totalAmount != null ? totalAmount : Money.ZERO).plus(orderItem.getSubtotal());
     }
 
     public boolean canBeApproved() {
@@ -0,0 +1,44 @@
+package com.ejada.oms.order.entity;
+
+import com.ejada.oms.core.entity.BaseEntity;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * Idempotency key supplied by a client for order creation, with the response of the first request.
+ * Keys are unique per user; the request hash detects a key reused for a different request.
+ *
+ * @author Ali Hussein
+ */
+@Entity
+@Table(name = "order_idempotency_key", uniqueConstraints = @UniqueConstraint(
+        name = "uk_order_idempotency_key_user", columnNames = {"user_id", "idempotency_key"}))
+@Data
+@EqualsAndHashCode(callSuper = true)
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@AttributeOverride(name = "id", column = @Column(name = "idempotency_key_id"))
+public class OrderIdempotencyKey extends BaseEntity<Long> {
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Column(name = "idempotency_key", nullable = false, length = 100)
+    private String idempotencyKey;
+
+    @Column(name = "request_hash", length = 64)
+    private String requestHash;
+
+    @Column(name = "order_id")
+    private Long orderId;
+
+    @Column(name = "response_body", columnDefinition = "TEXT")
+    private String responseBody;
+
+    @Column(name = "created_at", nullable = false)
+    @Builder.Default
+    private LocalDateTime createdAt = LocalDateTime.now();
+}
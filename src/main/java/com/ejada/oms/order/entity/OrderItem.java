@@ -1,15 +1,13 @@
 package com.ejada.oms.order.entity;
 
 import com.ejada.oms.core.entity.BaseEntity;
+import com.ejada.oms.core.util.Money;
 import com.ejada.oms.product.entity.Product;
 import jakarta.persistence.*;
-import jakarta.validation.constraints.DecimalMin;
 import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotNull;
 import lombok.*;
 
-import java.math.BigDecimal;
-
 /**
  * Order item entity representing products within an order.
  * 
@@ -41,18 +39,34 @@ public class OrderItem extends BaseEntity<Long> {
     private Integer quantity;
 
     @NotNull
-    @DecimalMin(value = "0.0")
     @Column(name = "unit_price", nullable = false, precision = 10, scale = 2)
-    private BigDecimal unitPrice;
+    private Money unitPrice;
 
     @NotNull
-    @DecimalMin(value = "0.0")
     @Column(name = "subtotal", nullable = false, precision = 10, scale = 2)
-    private BigDecimal subtotal;
+    private Money subtotal;
+
+    public static OrderItem of(Product product, int quantity) {
+        return of(product, Money.of(product.getPrice()), quantity);
+    }
+
+    /**
+     * Builds an item from a unit price the caller already holds, such as the price returned when
+     * reserving stock. The product only serves as the association target, so a reference is enough
+     * here, although mapping the order to a response loads it afterwards.
+     */
+    public static OrderItem of(Product product, Money unitPrice, int quantity) {
+        return OrderItem.builder()
+                .product(product)
+                .quantity(quantity)
+                .unitPrice(unitPrice)
+                .subtotal(unitPrice.times(quantity))
+                .build();
+    }
 
     @PrePersist
     @PreUpdate
     private void calculateSubtotal() {
-        this.subtotal = unitPrice.multiply(BigDecimal.valueOf(quantity));
+        this.subtotal = unitPrice.times(quantity);
     }
 }
\ No newline at end of file
@@ -0,0 +1,42 @@
+package com.ejada.oms.order.enums;
+
+import com.ejada.oms.core.repository.Expansion;
+import com.ejada.oms.core.repository.FetchPlan;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Associations of an order that {@code ?expand=} can include in {@code OrderResponse}.
+ *
+ * @author Ali Hussein
+ */
+@Getter
+@RequiredArgsConstructor
+public enum OrderExpansion implements Expansion {
+
+    CUSTOMER("customer", List.of("customer", "customer.user"), false),
+    CREATED_BY_USER("createdByUser", List.of("createdByUser"), false),
+    ITEMS("items", List.of("orderItems", "orderItems.product"), true),
+    INVOICE("invoice", List.of("invoice"), false);
+
+    /**
+     * The invoice is the inverse side of a one-to-one, which Hibernate cannot load lazily;
+     * joining it keeps it from costing one query per order when it is not expanded.
+     */
+    private static final String INVOICE_PATH = "invoice";
+
+    private final String parameter;
+    private final List<String> attributePaths;
+    private final boolean collection;
+
+    public static FetchPlan listPlan(Set<OrderExpansion> expansions) {
+        return FetchPlan.listing("Order.list", expansions, INVOICE_PATH);
+    }
+
+    public static FetchPlan detailPlan(Set<OrderExpansion> expansions) {
+        return FetchPlan.detail("Order.detail", expansions, INVOICE_PATH);
+    }
+}
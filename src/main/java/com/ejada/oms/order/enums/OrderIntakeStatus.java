@@ -0,0 +1,32 @@
+package com.ejada.oms.order.enums;
+
+/**
+ * Enumeration representing the processing state of an asynchronously submitted order.
+ */
+public enum OrderIntakeStatus {
+
+    QUEUED("Queued", "Order request is waiting to be processed"),
+    CREATED("Created", "Order has been created"),
+    FAILED("Failed", "Order could not be created");
+
+    private final String displayName;
+    private final String description;
+
+    OrderIntakeStatus(String displayName, String description) {
+        this.displayName = displayName;
+        this.description = description;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+
+    public boolean isCompleted() {
+        return this != QUEUED;
+    }
+
+    @Override
+    public String toString() {
+        return displayName;
+    }
+}
@@ -1,45 +1,71 @@
 package com.ejada.oms.order.event;
 
+import com.ejada.oms.core.entity.OutboxEvent;
+import com.ejada.oms.core.exception.BusinessException;
+import com.ejada.oms.core.service.OutboxEventHandler;
 import com.ejada.oms.invoice.service.InvoiceService;
+import com.ejada.oms.order.entity.Order;
+import com.ejada.oms.order.repository.OrderRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.context.event.EventListener;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
 
 /**
- * Event handler for order-related events.
+ * Event handler for order-related events, delivered through the outbox relay.
  * 
  * @author Ali Hussein
  */
 @Component
 @RequiredArgsConstructor
 @Slf4j
-public class OrderEventHandler {
-    
+public class OrderEventHandler implements OutboxEventHandler {
+
+    public static final String ORDER_CREATED = "ORDER_CREATED";
+    public static final String ORDER_APPROVED = "ORDER_APPROVED";
+
     private final InvoiceService invoiceService;
-    
-    @EventListener
-    public void handleOrderCreated(OrderCreatedEvent event) {
+    private final OrderRepository orderRepository;
+
+    @Override
+    public boolean supports(String eventType) {
+        return ORDER_CREATED.equals(eventType) || ORDER_APPROVED.equals(eventType);
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void handle(OutboxEvent event) {
+        Order order = orderRepository.findById(event.getAggregateId())
+                .orElseThrow(() -> BusinessException.orderNotFound(event.getAggregateId()));
+
+        switch (event.getEventType()) {
+            case ORDER_CREATED -> handleOrderCreated(order);
+            case ORDER_APPROVED -> handleOrderApproved(order);
+            default -> throw new IllegalArgumentException("Unsupported event type: " + event.getEventType());
+        }
+    }
+
+    private void handleOrderCreated(Order order) {
         log.info("Order created event received for Order ID: {} - Customer: {}", 
-                event.getOrder().getId(), 
-                event.getOrder().getCustomer().getFullName());
+                order.getId(), 
+                order.getCustomer().getFullName());
         
         // Demo: In real application, this would send email notification
         log.info("Email notification would be sent to: {}", 
-                event.getOrder().getCustomer().getUser().getEmail());
+                order.getCustomer().getUser().getEmail());
     }
     
-    @EventListener
-    public void handleOrderApproved(OrderApprovedEvent event) {
-        log.info("Order approved event received for Order ID: {} - Generating invoice", 
-                event.getOrder().getId());
-        
-        try {
-            invoiceService.generateInvoiceForOrder(event.getOrder());
-            log.info("Invoice generated successfully for Order ID: {}", event.getOrder().getId());
-        } catch (Exception e) {
-            log.error("Failed to generate invoice for Order ID: {} - Error: {}", 
-                    event.getOrder().getId(), e.getMessage());
+    private void handleOrderApproved(Order order) {
+        log.info("Order approved event received for Order ID: {} - Generating invoice", order.getId());
+
+        // Redelivery after a crash must not fail on the invoice created the first time
+        if (invoiceService.hasInvoice(order.getId())) {
+            log.info("Invoice already exists for Order ID: {}, skipping", order.getId());
+            return;
         }
+
+        invoiceService.generateInvoiceForOrder(order);
+        log.info("Invoice generated successfully for Order ID: {}", order.getId());
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,29 @@
+package com.ejada.oms.order.event;
+
+import com.ejada.oms.core.service.OutboxService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * Records published order events in the outbox, inside the publishing transaction.
+ * The actual work runs later in {@link OrderEventHandler}.
+ * 
+ * @author Ali Hussein
+ */
+@Component
+@RequiredArgsConstructor
+public class OrderOutboxListener {
+
+    private final OutboxService outboxService;
+
+    @EventListener
+    public void onOrderCreated(OrderCreatedEvent event) {
+        outboxService.enqueue(OrderEventHandler.ORDER_CREATED, event.getOrder().getId());
+    }
+
+    @EventListener
+    public void onOrderApproved(OrderApprovedEvent event) {
+        outboxService.enqueue(OrderEventHandler.ORDER_APPROVED, event.getOrder().getId());
+    }
+}
@@ -1,16 +1,26 @@
 package com.ejada.oms.order.mapper;
 
+import com.ejada.oms.customer.dto.res.CustomerSummary;
+import com.ejada.oms.core.util.Money;
+import com.ejada.oms.customer.entity.Customer;
+import com.ejada.oms.invoice.dto.res.InvoiceSummary;
+import com.ejada.oms.invoice.entity.Invoice;
 import com.ejada.oms.order.dto.res.OrderItemResponse;
 import com.ejada.oms.order.dto.res.OrderResponse;
 import com.ejada.oms.order.dto.res.OrderSummary;
 import com.ejada.oms.order.entity.Order;
 import com.ejada.oms.order.entity.OrderItem;
+import com.ejada.oms.order.enums.OrderExpansion;
 
 import com.ejada.oms.customer.mapper.CustomerMapper;
 import com.ejada.oms.product.mapper.ProductMapper;
 import com.ejada.oms.invoice.mapper.InvoiceMapper;
 import org.mapstruct.Mapper;
 import org.mapstruct.Mapping;
+import org.mapstruct.Named;
+
+import java.math.BigDecimal;
+import java.util.Set;
 
 @Mapper(componentModel = "spring", uses = {CustomerMapper.class, ProductMapper.class, InvoiceMapper.class})
 public interface OrderMapper {
@@ -26,4 +36,43 @@ public interface OrderMapper {
 
     @Mapping(source = "product", target = "product")
     OrderItemResponse toResponse(OrderItem orderItem);
+
+    /**
+     * Maps only the associations the client asked for, so the others are never loaded.
+     */
+    default OrderResponse toResponse(Order order, Set<OrderExpansion> expand) {
+        OrderResponse response = toBaseResponse(order);
+        if (expand.contains(OrderExpansion.CUSTOMER)) {
+            response.setCustomer(toCustomerSummary(order.getCustomer()));
+        }
+        if (expand.contains(OrderExpansion.CREATED_BY_USER) && order.getCreatedByUser() != null) {
+            response.setCreatedByUsername(order.getCreatedByUser().getUsername());
+        }
+        if (expand.contains(OrderExpansion.ITEMS)) {
+            response.setOrderItems(order.getOrderItems().stream().map(item -> toResponse(item)).toList());
+        }
+        if (expand.contains(OrderExpansion.INVOICE)) {
+            response.setInvoice(toInvoiceSummary(order.getInvoice()));
+        }
+        return response;
+    }
+
+    @Named("baseResponse")
+    @Mapping(target = "customer", ignore = true)
+    @Mapping(target = "createdByUsername", ignore = true)
+    @Mapping(target = "orderItems", ignore = true)
+    @Mapping(target = "invoice", ignore = true)
+    OrderResponse toBaseResponse(Order order);
+
+    @Named("expandedCustomer")
+    @Mapping(source = "fullName", target = "fullName")
+    @Mapping(source = "user.email", target = "email")
+    CustomerSummary toCustomerSummary(Customer customer);
+
+    @Named("expandedInvoice")
+    InvoiceSummary toInvoiceSummary(Invoice invoice);
+
+    default BigDecimal toAmount(Money money) {
+        return money != null ? money.toBigDecimal() : null;
+    }
 }
@@ -0,0 +1,14 @@
+package com.ejada.oms.order.repository;
+
+import com.ejada.oms.order.entity.OrderItem;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Repository for OrderItem entity operations.
+ *
+ * @author Ali Hussein
+ */
+@Repository
+public interface OrderItemRepository extends JpaRepository<OrderItem, Long> {
+}
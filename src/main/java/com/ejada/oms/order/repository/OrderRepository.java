@@ -1,13 +1,16 @@
 package com.ejada.oms.order.repository;
 
 import com.ejada.oms.order.entity.Order;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
+import java.util.List;
 
 /**
  * Repository for Order entity operations.
@@ -17,12 +20,22 @@ import org.springframework.stereotype.Repository;
 @Repository
 public interface OrderRepository extends JpaRepository<Order, Long>, JpaSpecificationExecutor<Order> {
 
-    Page<Order> findByCustomerId(Long customerId, Pageable pageable);
-    
     boolean existsByCustomerId(Long customerId);
     
     boolean existsByShippingAddressId(Long addressId);
     
+    /**
+     * Confirms the given orders that are still PENDING in one statement and returns the IDs it changed.
+     */
+    @Transactional
+    @Query(value = "UPDATE order_table SET order_status = 'CONFIRMED', version = version + 1, modified_by = :modifiedBy " +
+                   "WHERE order_id IN (:ids) AND order_status = 'PENDING' RETURNING order_id",
+           nativeQuery = true)
+    List<Long> approvePending(@Param("ids") Collection<Long> ids, @Param("modifiedBy") String modifiedBy);
+
+    @EntityGraph(attributePaths = "shippingAddress")
+    List<Order> findAllWithShippingAddressByIdIn(Collection<Long> ids);
+
     @Query("SELECT CASE WHEN COUNT(oi) > 0 THEN true ELSE false END FROM Order o JOIN o.orderItems oi WHERE oi.product.id = :productId")
     boolean existsByProductId(@Param("productId") Long productId);
 }
@@ -0,0 +1,48 @@
+package com.ejada.oms.order.repository;
+
+import com.ejada.oms.core.repository.SummaryProjection;
+import com.ejada.oms.core.util.Money;
+import com.ejada.oms.customer.entity.Customer;
+import com.ejada.oms.customer.repository.CustomerSummaryProjection;
+import com.ejada.oms.order.dto.res.OrderSummary;
+import com.ejada.oms.order.entity.Order;
+import com.ejada.oms.order.enums.OrderStatus;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.Join;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Selection;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Columns of {@link OrderSummary}, with the customer and its user joined in the same statement.
+ *
+ * @author Ali Hussein
+ */
+@Component
+public class OrderSummaryProjection implements SummaryProjection<Order, OrderSummary> {
+
+    @Override
+    public List<Selection<?>> select(Root<Order> root, CriteriaBuilder cb) {
+        Join<Order, Customer> customer = root.join("customer");
+        List<Selection<?>> selections = new ArrayList<>(List.of(
+                root.get("id"), root.get("orderStatus"), root.get("totalAmount"), root.get("orderDate")));
+        selections.addAll(CustomerSummaryProjection.columns(customer));
+        return selections;
+    }
+
+    @Override
+    public OrderSummary map(Tuple tuple) {
+        OrderSummary summary = new OrderSummary();
+        summary.setId(tuple.get(0, Long.class));
+        summary.setOrderStatus(tuple.get(1, OrderStatus.class));
+        summary.setTotalAmount(tuple.get(2, Money.class).toBigDecimal());
+        summary.setOrderDate(tuple.get(3, LocalDateTime.class));
+        summary.setCustomer(CustomerSummaryProjection.map(tuple, 4));
+        return summary;
+    }
+}
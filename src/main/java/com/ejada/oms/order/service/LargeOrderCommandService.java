@@ -0,0 +1,254 @@
+package com.ejada.oms.order.service;
+
+import com.ejada.oms.auth.entity.User;
+import com.ejada.oms.auth.service.UserService;
+import com.ejada.oms.core.config.properties.ApplicationProperties;
+import com.ejada.oms.core.config.properties.ApplicationProperties.OrderProperties.LargeOrderProperties;
+import com.ejada.oms.core.exception.BusinessException;
+import com.ejada.oms.core.util.Money;
+import com.ejada.oms.core.util.SecurityUtils;
+import com.ejada.oms.customer.entity.Address;
+import com.ejada.oms.customer.service.CustomerCommandService;
+import com.ejada.oms.order.dto.req.OrderItemCreateRequest;
+import com.ejada.oms.order.entity.Order;
+import com.ejada.oms.order.entity.OrderItem;
+import com.ejada.oms.order.event.OrderCreatedEvent;
+import com.ejada.oms.order.repository.OrderItemRepository;
+import com.ejada.oms.order.repository.OrderRepository;
+import com.ejada.oms.product.dto.res.ProductCatalogEntry;
+import com.ejada.oms.product.service.ProductCommandService;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManager;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Creates orders with tens of thousands of lines.
+ * The request body is parsed as a stream into primitive arrays (a product ID and a quantity per line).
+ * Stock for every distinct product is then reserved in ascending product ID order, the same order
+ * the other order paths lock in, so concurrent orders cannot deadlock on product rows. Items are
+ * persisted and flushed in fixed-size chunks, so entities in memory stay bounded by the chunk size.
+ * The whole order is still created in one transaction.
+ *
+ * @author Ali Hussein
+ */
+@Service
+@Slf4j
+@Transactional
+public class LargeOrderCommandService {
+
+    private final OrderRepository orderRepository;
+    private final OrderItemRepository orderItemRepository;
+    private final CustomerCommandService customerCommandService;
+    private final ProductCommandService productCommandService;
+    private final UserService userService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ObjectMapper objectMapper;
+    private final EntityManager entityManager;
+    private final LargeOrderProperties properties;
+
+    public LargeOrderCommandService(OrderRepository orderRepository,
+                                    OrderItemRepository orderItemRepository,
+                                    CustomerCommandService customerCommandService,
+                                    ProductCommandService productCommandService,
+                                    UserService userService,
+                                    ApplicationEventPublisher eventPublisher,
+                                    ObjectMapper objectMapper,
+                                    EntityManager entityManager,
+                                    ApplicationProperties applicationProperties) {
+        this.orderRepository = orderRepository;
+        this.orderItemRepository = orderItemRepository;
+        this.customerCommandService = customerCommandService;
+        this.productCommandService = productCommandService;
+        this.userService = userService;
+        this.eventPublisher = eventPublisher;
+        this.objectMapper = objectMapper;
+        this.entityManager = entityManager;
+        this.properties = applicationProperties.getOrders().getLarge();
+    }
+
+    /**
+     * Creates an order from a body shaped like {@code OrderCreateRequest}.
+     * {@code customerId} must come before {@code orderItems} so items can be written as they are read.
+     */
+    public Order create(InputStream body) {
+        try (JsonParser parser = objectMapper.createParser(body)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw BusinessException.validationError("Order body must be a JSON object");
+            }
+
+            Long customerId = null;
+            Long orderId = null;
+            Money totalAmount = Money.ZERO;
+
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.currentName();
+                parser.nextToken();
+                switch (field) {
+                    case "customerId" -> customerId = parser.getValueAsLong();
+                    case "orderItems" -> {
+                        if (customerId == null) {
+                            throw BusinessException.validationError("customerId must precede orderItems in large order requests");
+                        }
+                        orderId = startOrder(customerId);
+                        totalAmount = streamItems(parser, orderId);
+                    }
+                    default -> parser.skipChildren();
+                }
+            }
+
+            if (customerId == null) {
+                throw BusinessException.requiredFieldMissing("customerId");
+            }
+            if (orderId == null) {
+                throw BusinessException.validationError("Order items are required");
+            }
+
+            Order order = findById(orderId);
+            order.setTotalAmount(totalAmount);
+            log.info("Large order created with ID: {}, Total: {}", orderId, totalAmount);
+
+            eventPublisher.publishEvent(new OrderCreatedEvent(order));
+            return order;
+        } catch (JsonProcessingException e) {
+            throw BusinessException.validationError("Malformed order body: " + e.getOriginalMessage());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private Long startOrder(Long customerId) {
+        log.info("Admin creating large order for customer ID: {}", customerId);
+
+        User currentUser = SecurityUtils.getCurrentUser();
+        Address shippingAddress = customerCommandService.findDefaultAddress(customerId);
+
+        Order order = Order.builder()
+                .customer(customerCommandService.getReference(customerId))
+                .shippingAddress(shippingAddress)
+                .createdByUser(userService.getReference(currentUser.getId()))
+                .totalAmount(Money.ZERO)
+                .build();
+        return orderRepository.saveAndFlush(order).getId();
+    }
+
+    private Money streamItems(JsonParser parser, Long orderId) throws IOException {
+        if (parser.currentToken() != JsonToken.START_ARRAY) {
+            throw BusinessException.validationError("orderItems must be an array");
+        }
+
+        long[] productIds = new long[properties.getChunkSize()];
+        int[] quantities = new int[properties.getChunkSize()];
+        Map<Long, Integer> totalQuantities = new TreeMap<>();
+        int itemCount = 0;
+
+        while (parser.nextToken() != JsonToken.END_ARRAY) {
+            OrderItemCreateRequest item = parser.readValueAs(OrderItemCreateRequest.class);
+            validate(item, itemCount);
+            if (itemCount == properties.getMaxItems()) {
+                throw BusinessException.validationError("Order cannot have more than " + properties.getMaxItems() + " items");
+            }
+
+            if (itemCount == productIds.length) {
+                int capacity = Math.min(productIds.length * 2, properties.getMaxItems());
+                productIds = Arrays.copyOf(productIds, capacity);
+                quantities = Arrays.copyOf(quantities, capacity);
+            }
+            productIds[itemCount] = item.getProductId();
+            quantities[itemCount] = item.getQuantity();
+            totalQuantities.merge(item.getProductId(), item.getQuantity(), Integer::sum);
+            itemCount++;
+        }
+        if (itemCount == 0) {
+            throw BusinessException.validationError("Order items are required");
+        }
+
+        Map<Long, Money> unitPrices = reserveAll(totalQuantities);
+
+        Money totalAmount = Money.ZERO;
+        for (int from = 0; from < itemCount; from += properties.getChunkSize()) {
+            int to = Math.min(from + properties.getChunkSize(), itemCount);
+            totalAmount = totalAmount.plus(writeChunk(productIds, quantities, from, to, unitPrices, orderId));
+        }
+
+        log.debug("Streamed {} items ({} products) into order ID: {}", itemCount, totalQuantities.size(), orderId);
+        return totalAmount;
+    }
+
+    /**
+     * Reserves the summed quantity of each product in ascending product ID order, before any item is
+     * written, and returns the unit prices read from the reserved rows.
+     */
+    private Map<Long, Money> reserveAll(Map<Long, Integer> totalQuantities) {
+        Map<Long, Money> unitPrices = new HashMap<>(totalQuantities.size() * 2);
+        List<Long> slice = new ArrayList<>(properties.getChunkSize());
+        for (Long productId : totalQuantities.keySet()) {
+            slice.add(productId);
+            if (slice.size() == properties.getChunkSize()) {
+                reserveSlice(slice, totalQuantities, unitPrices);
+                slice.clear();
+            }
+        }
+        if (!slice.isEmpty()) {
+            reserveSlice(slice, totalQuantities, unitPrices);
+        }
+        return unitPrices;
+    }
+
+    private void reserveSlice(List<Long> productIds, Map<Long, Integer> totalQuantities, Map<Long, Money> unitPrices) {
+        Map<Long, ProductCatalogEntry> products = productCommandService.findCatalogEntries(productIds);
+        for (Long productId : productIds) {
+            unitPrices.put(productId, productCommandService.reserveStock(products.get(productId), totalQuantities.get(productId)));
+        }
+    }
+
+    private Money writeChunk(long[] productIds, int[] quantities, int from, int to,
+                             Map<Long, Money> unitPrices, Long orderId) {
+        Order order = orderRepository.getReferenceById(orderId);
+        List<OrderItem> orderItems = new ArrayList<>(to - from);
+
+        Money chunkTotal = Money.ZERO;
+        for (int i = from; i < to; i++) {
+            Money unitPrice = unitPrices.get(productIds[i]);
+            OrderItem orderItem = OrderItem.of(productCommandService.getReference(productIds[i]), unitPrice, quantities[i]);
+            orderItem.setOrder(order);
+            orderItems.add(orderItem);
+            chunkTotal = chunkTotal.plus(unitPrice.times(quantities[i]));
+        }
+        orderItemRepository.saveAll(orderItems);
+
+        // Write the chunk and drop it from the persistence context to keep memory bounded
+        entityManager.flush();
+        entityManager.clear();
+        return chunkTotal;
+    }
+
+    private void validate(OrderItemCreateRequest item, int index) {
+        if (item == null || item.getProductId() == null) {
+            throw BusinessException.validationError("orderItems[" + index + "]: Product ID is required");
+        }
+        if (item.getQuantity() == null || item.getQuantity() <= 0) {
+            throw BusinessException.validationError("orderItems[" + index + "]: Quantity must be positive");
+        }
+    }
+
+    private Order findById(Long id) {
+        return orderRepository.findById(id)
+                .orElseThrow(() -> BusinessException.orderNotFound(id));
+    }
+}
@@ -0,0 +1,159 @@
+package com.ejada.oms.order.service;
+
+import com.ejada.oms.auth.entity.User;
+import com.ejada.oms.auth.service.UserService;
+import com.ejada.oms.core.exception.BusinessException;
+import com.ejada.oms.core.util.Money;
+import com.ejada.oms.core.util.SecurityUtils;
+import com.ejada.oms.customer.entity.Address;
+import com.ejada.oms.customer.service.CustomerCommandService;
+import com.ejada.oms.order.dto.req.OrderCreateRequest;
+import com.ejada.oms.order.dto.res.OrderBatchItemResult;
+import com.ejada.oms.order.dto.res.OrderBatchResponse;
+import com.ejada.oms.order.entity.Order;
+import com.ejada.oms.order.entity.OrderItem;
+import com.ejada.oms.order.event.OrderCreatedEvent;
+import com.ejada.oms.order.repository.OrderRepository;
+import com.ejada.oms.product.entity.Product;
+import com.ejada.oms.product.service.ProductCommandService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * Service for creating many orders in one call.
+ * Customers and products are resolved with set-based queries, stock is allocated
+ * in memory against locked product rows and the accepted orders are inserted in JDBC batches.
+ * Each order succeeds or fails on its own.
+ *
+ * @author Ali Hussein
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+@Transactional
+public class OrderBatchCommandService {
+
+    private final OrderRepository orderRepository;
+    private final CustomerCommandService customerCommandService;
+    private final ProductCommandService productCommandService;
+    private final UserService userService;
+    private final ApplicationEventPublisher eventPublisher;
+
+    public OrderBatchResponse createBatch(List<OrderCreateRequest> requests) {
+        log.info("Admin creating batch of {} orders", requests.size());
+
+        User currentUser = userService.getReference(SecurityUtils.getCurrentUser().getId());
+
+        Set<Long> customerIds = new HashSet<>();
+        Set<Long> productIds = new HashSet<>();
+        for (OrderCreateRequest request : requests) {
+            customerIds.add(request.getCustomerId());
+            for (var itemRequest : request.getOrderItems()) {
+                productIds.add(itemRequest.getProductId());
+            }
+        }
+
+        Map<Long, Address> addresses = customerCommandService.findDefaultAddresses(customerIds);
+        Set<Long> customersWithoutAddress = new HashSet<>(customerIds);
+        customersWithoutAddress.removeAll(addresses.keySet());
+        Set<Long> existingCustomersWithoutAddress = customersWithoutAddress.isEmpty()
+                ? Set.of()
+                : customerCommandService.findExistingIds(customersWithoutAddress);
+
+        // Locked rows make the in-memory stock counters authoritative until commit
+        Map<Long, Product> products = productCommandService.lockAllByIds(productIds);
+        Map<Long, Integer> available = new HashMap<>(products.size() * 2);
+        products.forEach((id, product) -> available.put(id, product.getStockQuantity()));
+        Map<Long, Integer> reserved = new TreeMap<>();
+
+        OrderBatchItemResult[] results = new OrderBatchItemResult[requests.size()];
+        List<Order> orders = new ArrayList<>();
+        List<Integer> orderIndexes = new ArrayList<>();
+
+        for (int index = 0; index < requests.size(); index++) {
+            OrderCreateRequest request = requests.get(index);
+            Map<Long, Integer> quantities = new LinkedHashMap<>();
+            for (var itemRequest : request.getOrderItems()) {
+                quantities.merge(itemRequest.getProductId(), itemRequest.getQuantity(), Integer::sum);
+            }
+
+            BusinessException error = validate(request, quantities, addresses,
+                    existingCustomersWithoutAddress, products, available);
+            if (error != null) {
+                results[index] = OrderBatchItemResult.failed(index, error);
+                continue;
+            }
+
+            quantities.forEach((productId, quantity) -> {
+                available.merge(productId, -quantity, Integer::sum);
+                reserved.merge(productId, quantity, Integer::sum);
+            });
+            orders.add(buildOrder(request, addresses.get(request.getCustomerId()), products, currentUser));
+            orderIndexes.add(index);
+        }
+
+        reserved.forEach((productId, quantity) -> productCommandService.reserveStock(products.get(productId), quantity));
+
+        List<Order> saved = orderRepository.saveAll(orders);
+        for (int i = 0; i < saved.size(); i++) {
+            Order order = saved.get(i);
+            int index = orderIndexes.get(i);
+            results[index] = OrderBatchItemResult.created(index, order.getId());
+            eventPublisher.publishEvent(new OrderCreatedEvent(order));
+        }
+
+        log.info("Order batch processed: {} created, {} failed", saved.size(), requests.size() - saved.size());
+        return new OrderBatchResponse(saved.size(), requests.size() - saved.size(), Arrays.asList(results));
+    }
+
+    private BusinessException validate(OrderCreateRequest request, Map<Long, Integer> quantities,
+                                       Map<Long, Address> addresses, Set<Long> existingCustomersWithoutAddress,
+                                       Map<Long, Product> products, Map<Long, Integer> available) {
+        Long customerId = request.getCustomerId();
+        if (!addresses.containsKey(customerId)) {
+            return existingCustomersWithoutAddress.contains(customerId)
+                    ? BusinessException.customerHasNoAddress(customerId)
+                    : BusinessException.customerNotFound(customerId);
+        }
+
+        for (Map.Entry<Long, Integer> entry : quantities.entrySet()) {
+            Product product = products.get(entry.getKey());
+            if (product == null) {
+                return BusinessException.productNotFound(entry.getKey());
+            }
+            int stock = available.get(entry.getKey());
+            if (stock < entry.getValue()) {
+                return BusinessException.insufficientStock(product.getProductName(), stock, entry.getValue());
+            }
+        }
+        return null;
+    }
+
+    private Order buildOrder(OrderCreateRequest request, Address shippingAddress,
+                             Map<Long, Product> products, User createdBy) {
+        Order order = Order.builder()
+                .customer(customerCommandService.getReference(request.getCustomerId()))
+                .shippingAddress(shippingAddress)
+                .createdByUser(createdBy)
+                .totalAmount(Money.ZERO)
+                .build();
+
+        for (var itemRequest : request.getOrderItems()) {
+            order.addOrderItem(OrderItem.of(products.get(itemRequest.getProductId()), itemRequest.getQuantity()));
+        }
+        return order;
+    }
+}
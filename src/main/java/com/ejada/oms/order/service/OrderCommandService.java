@@ -2,13 +2,19 @@ package com.ejada.oms.order.service;
 
 import com.ejada.oms.order.entity.Order;
 import com.ejada.oms.order.entity.OrderItem;
+import com.ejada.oms.order.dto.req.OrderBulkApproveRequest;
 import com.ejada.oms.order.dto.req.OrderCreateRequest;
+import com.ejada.oms.order.dto.res.OrderApprovalResult;
+import com.ejada.oms.order.dto.res.OrderBulkApproveResponse;
+import com.ejada.oms.invoice.service.InvoiceService;
 import com.ejada.oms.order.repository.OrderRepository;
-import com.ejada.oms.customer.entity.Customer;
+import com.ejada.oms.customer.entity.Address;
 import com.ejada.oms.customer.service.CustomerCommandService;
-import com.ejada.oms.product.entity.Product;
+import com.ejada.oms.product.dto.res.ProductCatalogEntry;
 import com.ejada.oms.product.service.ProductCommandService;
 import com.ejada.oms.auth.entity.User;
+import com.ejada.oms.auth.service.UserService;
+import com.ejada.oms.core.util.Money;
 import com.ejada.oms.core.util.SecurityUtils;
 import com.ejada.oms.core.exception.BusinessException;
 import com.ejada.oms.order.event.OrderCreatedEvent;
@@ -19,9 +25,14 @@ import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.math.BigDecimal;
 import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.TreeMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
 
 /**
  * Service for order command operations with event-driven processing.
@@ -34,52 +45,45 @@ import java.util.List;
 @Transactional
 public class OrderCommandService {
 
+    private static final int MAX_BULK_APPROVAL = 10000;
+
     private final OrderRepository orderRepository;
+    private final OrderQueryService orderQueryService;
+    private final InvoiceService invoiceService;
     private final CustomerCommandService customerCommandService;
     private final ProductCommandService productCommandService;
+    private final UserService userService;
     private final ApplicationEventPublisher eventPublisher;
 
     public Order create(OrderCreateRequest request) {
         log.info("Admin creating order for customer ID: {}", request.getCustomerId());
 
         User currentUser = SecurityUtils.getCurrentUser();
-        Customer customer = customerCommandService.findById(request.getCustomerId());
-
-        List<OrderItem> orderItems = new ArrayList<>();
-        BigDecimal totalAmount = BigDecimal.ZERO;
+        Address shippingAddress = customerCommandService.findDefaultAddress(request.getCustomerId());
 
+        // Reserve in product id order so concurrent orders lock product rows in the same sequence
+        Map<Long, Integer> quantities = new TreeMap<>();
         for (var itemRequest : request.getOrderItems()) {
-            Product product = productCommandService.findById(itemRequest.getProductId());
-
-            if (!product.hasStock(itemRequest.getQuantity())) {
-                throw BusinessException.insufficientStock(product.getProductName(),
-                        product.getStockQuantity(), itemRequest.getQuantity());
-            }
-
-            BigDecimal subtotal = product.getPrice().multiply(BigDecimal.valueOf(itemRequest.getQuantity()));
-            
-            OrderItem orderItem = OrderItem.builder()
-                    .product(product)
-                    .quantity(itemRequest.getQuantity())
-                    .unitPrice(product.getPrice())
-                    .subtotal(subtotal)
-                    .build();
-
-            orderItems.add(orderItem);
-            totalAmount = totalAmount.add(subtotal);
+            quantities.merge(itemRequest.getProductId(), itemRequest.getQuantity(), Integer::sum);
+        }
+        Map<Long, ProductCatalogEntry> products = productCommandService.findCatalogEntries(quantities.keySet());
 
-            product.reduceStock(itemRequest.getQuantity());
+        // Priced from the reserved rows, not from the catalog cache
+        Map<Long, Money> unitPrices = new HashMap<>(quantities.size());
+        for (Map.Entry<Long, Integer> entry : quantities.entrySet()) {
+            unitPrices.put(entry.getKey(), productCommandService.reserveStock(products.get(entry.getKey()), entry.getValue()));
         }
 
         Order order = Order.builder()
-                .customer(customer)
-                .shippingAddress(customer.getDefaultAddress())
-                .createdByUser(currentUser)
-                .totalAmount(totalAmount)
+                .customer(customerCommandService.getReference(request.getCustomerId()))
+                .shippingAddress(shippingAddress)
+                .createdByUser(userService.getReference(currentUser.getId()))
+                .totalAmount(Money.ZERO)
                 .build();
 
-        for (OrderItem orderItem : orderItems) {
-            order.addOrderItem(orderItem);
+        for (var itemRequest : request.getOrderItems()) {
+            order.addOrderItem(OrderItem.of(productCommandService.getReference(itemRequest.getProductId()),
+                    unitPrices.get(itemRequest.getProductId()), itemRequest.getQuantity()));
         }
 
         Order saved = orderRepository.save(order);
@@ -110,6 +114,61 @@ public class OrderCommandService {
         return saved;
     }
 
+    /**
+     * Approves many orders with one conditional UPDATE and generates their invoices in one batched insert.
+     * Orders are picked either by ID or by filter; with a filter only PENDING orders are selected, and a
+     * filter matching more than {@value #MAX_BULK_APPROVAL} of them is rejected rather than truncated.
+     */
+    public OrderBulkApproveResponse approveAll(OrderBulkApproveRequest request) {
+        boolean byIds = request.getOrderIds() != null && !request.getOrderIds().isEmpty();
+        if (byIds == (request.getFilter() != null)) {
+            throw BusinessException.validationError("Provide either orderIds or filter");
+        }
+
+        List<Long> orderIds = byIds
+                ? request.getOrderIds().stream().filter(Objects::nonNull).distinct().toList()
+                : findPendingIdsWithinLimit(request);
+        log.info("Admin approving {} orders", orderIds.size());
+        if (orderIds.isEmpty()) {
+            return new OrderBulkApproveResponse(0, 0, List.of());
+        }
+
+        Set<Long> approvedIds = new HashSet<>(orderRepository.approvePending(orderIds, SecurityUtils.getCurrentUsername()));
+        invoiceService.generateInvoicesForOrders(orderRepository.findAllWithShippingAddressByIdIn(approvedIds));
+
+        // Explain the IDs the update skipped: either missing or no longer PENDING
+        Map<Long, Order> skipped = new HashMap<>();
+        List<Long> skippedIds = orderIds.stream().filter(id -> !approvedIds.contains(id)).toList();
+        if (!skippedIds.isEmpty()) {
+            orderRepository.findAllById(skippedIds).forEach(order -> skipped.put(order.getId(), order));
+        }
+
+        List<OrderApprovalResult> results = new ArrayList<>(orderIds.size());
+        for (Long orderId : orderIds) {
+            if (approvedIds.contains(orderId)) {
+                results.add(OrderApprovalResult.approved(orderId));
+            } else if (skipped.containsKey(orderId)) {
+                results.add(OrderApprovalResult.failed(orderId, BusinessException.invalidOrderStatus(
+                        "Order cannot be approved in status: " + skipped.get(orderId).getOrderStatus())));
+            } else {
+                results.add(OrderApprovalResult.failed(orderId, BusinessException.orderNotFound(orderId)));
+            }
+        }
+
+        log.info("Bulk approval finished: {} approved, {} skipped", approvedIds.size(), skippedIds.size());
+        return new OrderBulkApproveResponse(approvedIds.size(), skippedIds.size(), results);
+    }
+
+    // One extra row tells a filter that matches too many orders apart from one that matches exactly the limit
+    private List<Long> findPendingIdsWithinLimit(OrderBulkApproveRequest request) {
+        List<Long> orderIds = orderQueryService.findPendingIds(request.getFilter(), MAX_BULK_APPROVAL + 1);
+        if (orderIds.size() > MAX_BULK_APPROVAL) {
+            throw BusinessException.validationError("Filter matches more than " + MAX_BULK_APPROVAL
+                    + " pending orders; narrow it and approve in several requests");
+        }
+        return orderIds;
+    }
+
     public Order findById(Long id) {
         return orderRepository.findById(id)
                 .orElseThrow(() -> BusinessException.orderNotFound(id));
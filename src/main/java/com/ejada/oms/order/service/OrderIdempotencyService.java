@@ -0,0 +1,175 @@
+package com.ejada.oms.order.service;
+
+import com.ejada.oms.core.config.properties.ApplicationProperties;
+import com.ejada.oms.core.dto.ResponseDto;
+import com.ejada.oms.core.exception.BusinessException;
+import com.ejada.oms.core.service.TransactionRetryExecutor;
+import com.ejada.oms.core.util.LruCache;
+import com.ejada.oms.core.util.SecurityUtils;
+import com.ejada.oms.core.util.TokenHashing;
+import com.ejada.oms.order.dto.req.OrderCreateRequest;
+import com.ejada.oms.order.dto.res.OrderResponse;
+import com.ejada.oms.order.entity.Order;
+import com.ejada.oms.order.entity.OrderIdempotencyKey;
+import com.ejada.oms.order.mapper.OrderMapper;
+import com.ejada.oms.order.repository.OrderIdempotencyKeyRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.HttpStatus;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * Service for idempotent order creation driven by the client-supplied Idempotency-Key header.
+ * The first response for a key is stored with the key and replayed for every retry,
+ * so retries never touch products or stock again. Keys are scoped to the submitting user, and
+ * a key reused with a different request body is rejected instead of replaying the first order.
+ * Keys are kept for {@code app.orders.idempotency.retention-hours}.
+ *
+ * @author Ali Hussein
+ */
+@Service
+@Slf4j
+public class OrderIdempotencyService {
+
+    private static final int MAX_KEY_LENGTH = 100;
+    private static final TypeReference<ResponseDto<OrderResponse>> RESPONSE_TYPE = new TypeReference<>() {
+    };
+
+    private final OrderIdempotencyKeyRepository idempotencyKeyRepository;
+    private final OrderCommandService orderCommandService;
+    private final OrderMapper orderMapper;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate transactionTemplate;
+    private final TransactionRetryExecutor transactionRetryExecutor;
+    private final LruCache<String, StoredResponse> recentResponses;
+    private final long retentionMillis;
+
+    public OrderIdempotencyService(OrderIdempotencyKeyRepository idempotencyKeyRepository,
+                                   OrderCommandService orderCommandService,
+                                   OrderMapper orderMapper,
+                                   ObjectMapper objectMapper,
+                                   TransactionTemplate transactionTemplate,
+                                   TransactionRetryExecutor transactionRetryExecutor,
+                                   ApplicationProperties applicationProperties) {
+        this.idempotencyKeyRepository = idempotencyKeyRepository;
+        this.orderCommandService = orderCommandService;
+        this.orderMapper = orderMapper;
+        this.objectMapper = objectMapper;
+        this.transactionTemplate = transactionTemplate;
+        this.transactionRetryExecutor = transactionRetryExecutor;
+        this.recentResponses = new LruCache<>(applicationProperties.getOrders().getIdempotency().getCacheSize());
+        this.retentionMillis = applicationProperties.getOrders().getIdempotency().getRetentionHours() * 3_600_000;
+    }
+
+    public ResponseDto<OrderResponse> create(String idempotencyKey, OrderCreateRequest request) {
+        if (idempotencyKey.isBlank() || idempotencyKey.length() > MAX_KEY_LENGTH) {
+            throw BusinessException.validationError("Idempotency-Key must be 1 to " + MAX_KEY_LENGTH + " characters");
+        }
+
+        Long userId = SecurityUtils.getCurrentUser().getId();
+        String requestHash = TokenHashing.sha256(serialize(request));
+
+        Optional<ResponseDto<OrderResponse>> previous = findResponse(userId, idempotencyKey, requestHash);
+        if (previous.isPresent()) {
+            log.info("Replaying stored response for idempotency key: {}", idempotencyKey);
+            return previous.get();
+        }
+
+        String responseBody;
+        try {
+            responseBody = transactionRetryExecutor.execute(() -> transactionTemplate.execute(
+                    status -> createOnce(userId, idempotencyKey, requestHash, request)));
+        } catch (DataIntegrityViolationException e) {
+            // A concurrent request with the same key committed first
+            return findResponse(userId, idempotencyKey, requestHash).orElseThrow(() -> e);
+        }
+
+        cache(userId, idempotencyKey, new StoredResponse(requestHash, responseBody));
+        return deserialize(responseBody);
+    }
+
+    @Scheduled(cron = "0 15 * * * *")
+    public void purgeExpired() {
+        LocalDateTime cutoff = LocalDateTime.now().minus(Duration.ofMillis(retentionMillis));
+        Integer deleted = transactionTemplate.execute(status -> idempotencyKeyRepository.deleteCreatedBefore(cutoff));
+        if (deleted != null && deleted > 0) {
+            log.info("Purged {} expired idempotency keys", deleted);
+        }
+    }
+
+    private String createOnce(Long userId, String idempotencyKey, String requestHash, OrderCreateRequest request) {
+        // Claim the key first: a concurrent duplicate blocks on the unique index until this commits
+        OrderIdempotencyKey key = idempotencyKeyRepository.saveAndFlush(OrderIdempotencyKey.builder()
+                .userId(userId)
+                .idempotencyKey(idempotencyKey)
+                .requestHash(requestHash)
+                .build());
+
+        Order order = orderCommandService.create(request);
+        String responseBody = serialize(ResponseDto.success(
+                orderMapper.toResponse(order), "Order created successfully", HttpStatus.CREATED));
+
+        key.setOrderId(order.getId());
+        key.setResponseBody(responseBody);
+        return responseBody;
+    }
+
+    /**
+     * @throws BusinessException when the key was stored for a different request
+     */
+    private Optional<ResponseDto<OrderResponse>> findResponse(Long userId, String idempotencyKey, String requestHash) {
+        StoredResponse stored = recentResponses.get(cacheKey(userId, idempotencyKey));
+        if (stored == null) {
+            stored = idempotencyKeyRepository.findByUserIdAndIdempotencyKey(userId, idempotencyKey)
+                    .map(key -> new StoredResponse(key.getRequestHash(), key.getResponseBody()))
+                    .orElse(null);
+            if (stored == null) {
+                return Optional.empty();
+            }
+            cache(userId, idempotencyKey, stored);
+        }
+
+        // Keys stored before request hashes were recorded have none and are replayed as before
+        if (stored.requestHash() != null && !Objects.equals(stored.requestHash(), requestHash)) {
+            throw BusinessException.idempotencyKeyReused(idempotencyKey);
+        }
+        return Optional.of(deserialize(stored.responseBody()));
+    }
+
+    private void cache(Long userId, String idempotencyKey, StoredResponse stored) {
+        recentResponses.put(cacheKey(userId, idempotencyKey), stored, System.currentTimeMillis() + retentionMillis);
+    }
+
+    private static String cacheKey(Long userId, String idempotencyKey) {
+        return userId + ":" + idempotencyKey;
+    }
+
+    private String serialize(Object value) {
+        try {
+            return objectMapper.writeValueAsString(value);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Could not serialize " + value.getClass().getSimpleName(), e);
+        }
+    }
+
+    private ResponseDto<OrderResponse> deserialize(String responseBody) {
+        try {
+            return objectMapper.readValue(responseBody, RESPONSE_TYPE);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Could not deserialize stored order response", e);
+        }
+    }
+
+    private record StoredResponse(String requestHash, String responseBody) {
+    }
+}
@@ -0,0 +1,221 @@
+package com.ejada.oms.order.service;
+
+import com.ejada.oms.core.config.properties.ApplicationProperties;
+import com.ejada.oms.core.config.properties.ApplicationProperties.OrderProperties.IntakeProperties;
+import com.ejada.oms.core.exception.BusinessException;
+import com.ejada.oms.core.service.TransactionRetryExecutor;
+import com.ejada.oms.order.dto.req.OrderCreateRequest;
+import com.ejada.oms.order.dto.res.OrderBatchItemResult;
+import com.ejada.oms.order.dto.res.OrderBatchResponse;
+import com.ejada.oms.order.dto.res.OrderIntakeTicketResponse;
+import com.ejada.oms.order.enums.OrderIntakeStatus;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Asynchronous order intake.
+ * Requests are validated by the controller, put on a bounded in-process queue and answered
+ * with a ticket. A small worker pool drains the queue in micro-batches through
+ * {@link OrderBatchCommandService}, so bursts no longer hold request threads and pool
+ * connections for the whole order transaction.
+ *
+ * @author Ali Hussein
+ */
+@Service
+@Slf4j
+public class OrderIntakeService {
+
+    private static final long POLL_TIMEOUT_MS = 500;
+
+    private final OrderBatchCommandService orderBatchCommandService;
+    private final TransactionRetryExecutor transactionRetryExecutor;
+    private final IntakeProperties properties;
+    private final BlockingQueue<Ticket> queue;
+    private final Map<String, Ticket> tickets = new ConcurrentHashMap<>();
+    private ExecutorService workers;
+    private volatile boolean running;
+
+    public OrderIntakeService(OrderBatchCommandService orderBatchCommandService,
+                              TransactionRetryExecutor transactionRetryExecutor,
+                              ApplicationProperties applicationProperties) {
+        this.orderBatchCommandService = orderBatchCommandService;
+        this.transactionRetryExecutor = transactionRetryExecutor;
+        this.properties = applicationProperties.getOrders().getIntake();
+        this.queue = new ArrayBlockingQueue<>(Math.max(1, properties.getQueueCapacity()));
+    }
+
+    @PostConstruct
+    void start() {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        AtomicInteger threadNumber = new AtomicInteger();
+        workers = Executors.newFixedThreadPool(properties.getWorkers(), runnable -> {
+            Thread thread = new Thread(runnable, "order-intake-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        running = true;
+        for (int i = 0; i < properties.getWorkers(); i++) {
+            workers.submit(this::drainLoop);
+        }
+        log.info("Order intake started with {} workers, queue capacity {}, batch size {}",
+                properties.getWorkers(), properties.getQueueCapacity(), properties.getBatchSize());
+    }
+
+    @PreDestroy
+    void stop() throws InterruptedException {
+        if (workers == null) {
+            return;
+        }
+        running = false;
+        workers.shutdown();
+        if (!workers.awaitTermination(30, TimeUnit.SECONDS)) {
+            workers.shutdownNow();
+        }
+        log.info("Order intake stopped, {} requests left in queue", queue.size());
+    }
+
+    public OrderIntakeTicketResponse submit(OrderCreateRequest request) {
+        if (!running) {
+            throw BusinessException.orderIntakeDisabled();
+        }
+
+        Ticket ticket = new Ticket(UUID.randomUUID().toString(), request,
+                SecurityContextHolder.getContext().getAuthentication());
+        tickets.put(ticket.id, ticket);
+        if (!queue.offer(ticket)) {
+            tickets.remove(ticket.id);
+            throw BusinessException.orderIntakeQueueFull();
+        }
+
+        log.debug("Order request queued with ticket: {}", ticket.id);
+        return ticket.toResponse();
+    }
+
+    public OrderIntakeTicketResponse findTicket(String ticketId) {
+        Ticket ticket = tickets.get(ticketId);
+        if (ticket == null) {
+            throw BusinessException.orderIntakeTicketNotFound(ticketId);
+        }
+        return ticket.toResponse();
+    }
+
+    private void drainLoop() {
+        List<Ticket> batch = new ArrayList<>(properties.getBatchSize());
+        while (running || !queue.isEmpty()) {
+            try {
+                Ticket first = queue.poll(POLL_TIMEOUT_MS, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                queue.drainTo(batch, properties.getBatchSize() - 1);
+                process(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    private void process(List<Ticket> batch) {
+        // Orders are created on behalf of whoever submitted them
+        Map<String, List<Ticket>> bySubmitter = new LinkedHashMap<>();
+        for (Ticket ticket : batch) {
+            bySubmitter.computeIfAbsent(ticket.authentication.getName(), name -> new ArrayList<>()).add(ticket);
+        }
+
+        for (List<Ticket> group : bySubmitter.values()) {
+            SecurityContextHolder.getContext().setAuthentication(group.get(0).authentication);
+            try {
+                List<OrderCreateRequest> requests = group.stream().map(ticket -> ticket.request).toList();
+                OrderBatchResponse response = transactionRetryExecutor.execute(
+                        () -> orderBatchCommandService.createBatch(requests));
+                for (OrderBatchItemResult result : response.getResults()) {
+                    group.get(result.getIndex()).complete(result);
+                }
+            } catch (BusinessException e) {
+                group.forEach(ticket -> ticket.fail(e.getErrorCode(), e.getMessage()));
+            } catch (RuntimeException e) {
+                log.error("Order intake batch of {} requests failed", group.size(), e);
+                group.forEach(ticket -> ticket.fail("INTERNAL_ERROR", "An unexpected error occurred"));
+            } finally {
+                SecurityContextHolder.clearContext();
+            }
+        }
+    }
+
+    /**
+     * Drops finished tickets past their retention on a fixed schedule, so the ticket map stays
+     * bounded under sustained load when the workers never see an idle queue.
+     */
+    @Scheduled(fixedDelayString = "${app.orders.intake.purge-interval-ms}")
+    public void purgeCompleted() {
+        LocalDateTime cutoff = LocalDateTime.now().minusSeconds(properties.getResultRetentionSeconds());
+        tickets.values().removeIf(ticket -> ticket.completedAt != null && ticket.completedAt.isBefore(cutoff));
+    }
+
+    private static final class Ticket {
+        private final String id;
+        private final OrderCreateRequest request;
+        private final Authentication authentication;
+        private final LocalDateTime submittedAt = LocalDateTime.now();
+        private volatile OrderIntakeStatus status = OrderIntakeStatus.QUEUED;
+        private volatile Long orderId;
+        private volatile String errorCode;
+        private volatile String message;
+        private volatile LocalDateTime completedAt;
+
+        private Ticket(String id, OrderCreateRequest request, Authentication authentication) {
+            this.id = id;
+            this.request = request;
+            this.authentication = authentication;
+        }
+
+        private void complete(OrderBatchItemResult result) {
+            if (result.isSuccess()) {
+                this.orderId = result.getOrderId();
+                finish(OrderIntakeStatus.CREATED);
+            } else {
+                fail(result.getErrorCode(), result.getMessage());
+            }
+        }
+
+        private void fail(String errorCode, String message) {
+            this.errorCode = errorCode;
+            this.message = message;
+            finish(OrderIntakeStatus.FAILED);
+        }
+
+        private void finish(OrderIntakeStatus finalStatus) {
+            this.completedAt = LocalDateTime.now();
+            this.status = finalStatus;
+        }
+
+        private OrderIntakeTicketResponse toResponse() {
+            return new OrderIntakeTicketResponse(id, status, orderId, errorCode, message, submittedAt, completedAt);
+        }
+    }
+}
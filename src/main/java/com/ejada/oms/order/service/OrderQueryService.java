@@ -2,21 +2,38 @@ package com.ejada.oms.order.service;
 
 import com.ejada.oms.order.entity.Order;
 import com.ejada.oms.order.repository.OrderRepository;
+import com.ejada.oms.order.repository.OrderSummaryProjection;
+import com.ejada.oms.order.dto.res.OrderSummary;
+import com.ejada.oms.core.dto.GeneralFilterDto;
+import com.ejada.oms.core.exception.BusinessException;
+import com.ejada.oms.core.repository.FetchPlan;
 import com.ejada.oms.core.service.BaseListingService;
+import com.ejada.oms.core.specification.DynamicSpecificationBuilder;
+import com.ejada.oms.order.enums.OrderStatus;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Root;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import org.springframework.stereotype.Service;
 
+import java.util.List;
+
 @Service
 @RequiredArgsConstructor
 @Slf4j
 public class OrderQueryService extends BaseListingService<Order, Long> {
 
     private final OrderRepository orderRepository;
+    private final OrderSummaryProjection orderSummaryProjection;
+    private final EntityManager entityManager;
 
     @Override
     protected JpaRepository<Order, Long> getRepository() {
@@ -33,10 +50,38 @@ public class OrderQueryService extends BaseListingService<Order, Long> {
         return Order.class;
     }
 
+    /**
+     * Listing in the {@code view=SUMMARY} form, selected column by column in one statement.
+     */
+    public Slice<OrderSummary> findAllSummaries(GeneralFilterDto filterDto) {
+        return findAll(filterDto, orderSummaryProjection);
+    }
+
+
+    /**
+     * IDs of PENDING orders matching the filter, lowest first, without loading the orders.
+     */
+    public List<Long> findPendingIds(GeneralFilterDto filterDto, int limit) {
+        Specification<Order> spec = DynamicSpecificationBuilder.buildSpecification(filterDto, getFilterMetadata());
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Long> query = cb.createQuery(Long.class);
+        Root<Order> root = query.from(Order.class);
+
+        query.select(root.get("id"))
+                .where(cb.and(spec.toPredicate(root, query, cb), cb.equal(root.get("orderStatus"), OrderStatus.PENDING)))
+                .orderBy(cb.asc(root.get("id")));
+
+        return entityManager.createQuery(query).setMaxResults(limit).getResultList();
+    }
 
     // Get orders of a customer
-    public Page<Order> findByCustomerId(Long customerId, Pageable pageable) {
-        log.debug("Finding orders for customer ID: {}", customerId);
-        return orderRepository.findByCustomerId(customerId, pageable);
+    public Page<Order> findByCustomerId(Long customerId, Pageable pageable, FetchPlan fetchPlan) {
+        log.debug("Finding orders for customer ID: {} with fetch plan {}", customerId, fetchPlan);
+        Specification<Order> ofCustomer = (root, query, cb) -> cb.equal(root.get("customer").get("id"), customerId);
+        return orderRepository.findBy(ofCustomer, query -> query.project(fetchPlan.getAttributePaths()).page(pageable));
+    }
+
+    public Order findById(Long id, FetchPlan fetchPlan) {
+        return fetchById(id, fetchPlan).orElseThrow(() -> BusinessException.orderNotFound(id));
     }
 }
\ No newline at end of file
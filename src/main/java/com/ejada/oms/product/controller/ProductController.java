@@ -3,6 +3,7 @@ package com.ejada.oms.product.controller;
 import com.ejada.oms.core.dto.ResponseDto;
 import com.ejada.oms.core.dto.GeneralFilterDto;
 import com.ejada.oms.product.dto.res.ProductResponse;
+import com.ejada.oms.product.dto.res.ProductSummary;
 import com.ejada.oms.product.entity.Product;
 import com.ejada.oms.product.dto.req.ProductCreateRequest;
 import com.ejada.oms.product.mapper.ProductMapper;
@@ -21,7 +22,7 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
@@ -54,9 +55,13 @@ public class ProductController {
         @ApiResponse(responseCode = "401", description = "Unauthorized"),
         @ApiResponse(responseCode = "403", description = "Forbidden")
     })
-    public ResponseEntity<ResponseDto<Page<ProductResponse>>> getAll(GeneralFilterDto filterDto) {
-        Page<Product> products = productQueryService.findAll(filterDto);
-        Page<ProductResponse> response = products.map(productMapper::toResponse);
+    public ResponseEntity<ResponseDto<Slice<?>>> getAll(GeneralFilterDto filterDto) {
+        if (filterDto.getView() == GeneralFilterDto.View.SUMMARY) {
+            Slice<ProductSummary> summaries = productQueryService.findAllSummaries(filterDto);
+            return ResponseEntity.ok(ResponseDto.success(summaries, "Products retrieved successfully"));
+        }
+        Slice<Product> products = productQueryService.findAll(filterDto);
+        Slice<ProductResponse> response = products.map(productMapper::toResponse);
         return ResponseEntity.ok(ResponseDto.success(response, "Products retrieved successfully"));
     }
 
@@ -91,8 +96,9 @@ public class ProductController {
     public ResponseEntity<ResponseDto<ProductResponse>> getById(
             @Parameter(description = "Product ID", required = true, example = "1")
             @PathVariable Long id) {
-        Product product = productCommandService.findById(id);
-        return ResponseEntity.ok(ResponseDto.success(productMapper.toResponse(product), "Product retrieved successfully"));
+        ProductResponse response = productMapper.toResponse(
+                productQueryService.findCatalogEntry(id), productQueryService.findStockQuantity(id));
+        return ResponseEntity.ok(ResponseDto.success(response, "Product retrieved successfully"));
     }
 
     @PostMapping
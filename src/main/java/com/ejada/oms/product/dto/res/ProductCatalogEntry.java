@@ -0,0 +1,14 @@
+package com.ejada.oms.product.dto.res;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * The rarely changing attributes of a product, as kept in the catalog cache.
+ * Stock is deliberately absent; it is read separately.
+ *
+ * @author Ali Hussein
+ */
+public record ProductCatalogEntry(Long id, String productName, String description,
+                                  BigDecimal price, String category, LocalDateTime createdAt) {
+}
@@ -1,11 +1,13 @@
 package com.ejada.oms.product.entity;
 
 import com.ejada.oms.core.entity.BaseEntity;
+import com.ejada.oms.product.listener.ProductChangeListener;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.*;
 import lombok.*;
 
 import java.math.BigDecimal;
+import java.time.LocalDateTime;
 
 /**
  * Product entity representing items available for purchase.
@@ -13,7 +15,11 @@ import java.math.BigDecimal;
  * @author Ali Hussein
  */
 @Entity
-@Table(name = "product")
+@EntityListeners(ProductChangeListener.class)
+@Table(name = "product", indexes = {
+        @Index(name = "idx_product_category", columnList = "category"),
+        @Index(name = "idx_product_name", columnList = "product_name")
+})
 @Data
 @EqualsAndHashCode(callSuper = true)
 @NoArgsConstructor
@@ -42,6 +48,10 @@ public class Product extends BaseEntity<Long> {
     @Column(name = "category", length = 100)
     private String category;
 
+    @Column(name = "created_at", nullable = false, updatable = false)
+    @Builder.Default
+    private LocalDateTime createdAt = LocalDateTime.now();
+
     public boolean hasStock(Integer requiredQuantity) {
         return stockQuantity >= requiredQuantity;
     }
@@ -0,0 +1,27 @@
+package com.ejada.oms.product.listener;
+
+import com.ejada.oms.product.entity.Product;
+import com.ejada.oms.product.service.ProductCatalogCache;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+/**
+ * Evicts a product from the catalog cache when it is updated or deleted through JPA.
+ * Stock reservations are bulk updates that bypass it; the catalog does not hold stock.
+ *
+ * @author Ali Hussein
+ */
+@Component
+@RequiredArgsConstructor
+public class ProductChangeListener {
+
+    private final ProductCatalogCache productCatalogCache;
+
+    @PostUpdate
+    @PostRemove
+    public void evict(Product product) {
+        productCatalogCache.evict(product.getId());
+    }
+}
@@ -1,17 +1,23 @@
 package com.ejada.oms.product.mapper;
 
+import com.ejada.oms.product.dto.res.ProductCatalogEntry;
 import com.ejada.oms.product.dto.res.ProductResponse;
 import com.ejada.oms.product.dto.res.ProductSummary;
 import com.ejada.oms.product.entity.Product;
 import com.ejada.oms.product.dto.req.ProductCreateRequest;
 import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
 
 @Mapper(componentModel = "spring")
 public interface ProductMapper {
 
     ProductResponse toResponse(Product product);
 
+    @Mapping(target = "stockQuantity", source = "stockQuantity")
+    ProductResponse toResponse(ProductCatalogEntry catalogEntry, Integer stockQuantity);
+
     ProductSummary toSummary(Product product);
 
+    @Mapping(target = "createdAt", ignore = true)
     Product toEntity(ProductCreateRequest request);
 }
\ No newline at end of file
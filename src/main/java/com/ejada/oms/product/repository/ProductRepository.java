@@ -1,10 +1,20 @@
 package com.ejada.oms.product.repository;
 
+import com.ejada.oms.product.dto.res.ProductCatalogEntry;
 import com.ejada.oms.product.entity.Product;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.math.BigDecimal;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
 /**
  * Repository for Product entity operations.
  * 
@@ -14,4 +24,40 @@ import org.springframework.stereotype.Repository;
 public interface ProductRepository extends JpaRepository<Product, Long>, JpaSpecificationExecutor<Product> {
 
     boolean existsByProductName(String productName);
+
+    /**
+     * Load and lock all given products in a single SELECT ... FOR UPDATE, in ID order.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT p FROM Product p WHERE p.id IN :ids ORDER BY p.id")
+    List<Product> findAllByIdForUpdate(@Param("ids") Collection<Long> ids);
+
+    /**
+     * Atomically take stock from a product if enough is available.
+     * The stock counter is deliberately kept out of optimistic locking, so concurrent
+     * orders for the same product queue on the row lock instead of failing on the version.
+     * The price is returned from the locked row, so orders are priced from the committed value
+     * rather than from the catalog cache.
+     * <p>
+     * This bypasses the persistence context: a {@code Product} already managed in the same
+     * transaction keeps its old {@code stockQuantity}, so callers must not read stock from managed
+     * entities afterwards. {@code @Modifying(clearAutomatically = true)} is not an option here, as
+     * it runs the statement through {@code executeUpdate}, which rejects the {@code RETURNING} row.
+     *
+     * @return the current price, or empty when the product is missing or stock is insufficient
+     */
+    @Query(value = "UPDATE product SET stock_quantity = stock_quantity - :quantity " +
+                   "WHERE product_id = :id AND stock_quantity >= :quantity RETURNING price",
+           nativeQuery = true)
+    Optional<BigDecimal> decrementStock(@Param("id") Long id, @Param("quantity") int quantity);
+
+    /**
+     * Catalog attributes of the given products, without loading the entities or their stock.
+     */
+    @Query("SELECT new com.ejada.oms.product.dto.res.ProductCatalogEntry(" +
+           "p.id, p.productName, p.description, p.price, p.category, p.createdAt) FROM Product p WHERE p.id IN :ids")
+    List<ProductCatalogEntry> findCatalogEntriesByIds(@Param("ids") Collection<Long> ids);
+
+    @Query("SELECT p.stockQuantity FROM Product p WHERE p.id = :id")
+    Integer findStockQuantityById(@Param("id") Long id);
 }
\ No newline at end of file
@@ -0,0 +1,37 @@
+package com.ejada.oms.product.repository;
+
+import com.ejada.oms.core.repository.SummaryProjection;
+import com.ejada.oms.product.dto.res.ProductSummary;
+import com.ejada.oms.product.entity.Product;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Selection;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+/**
+ * Columns of {@link ProductSummary}; skips the description, which is the bulk of a product row.
+ *
+ * @author Ali Hussein
+ */
+@Component
+public class ProductSummaryProjection implements SummaryProjection<Product, ProductSummary> {
+
+    @Override
+    public List<Selection<?>> select(Root<Product> root, CriteriaBuilder cb) {
+        return List.of(root.get("id"), root.get("productName"), root.get("category"), root.get("price"));
+    }
+
+    @Override
+    public ProductSummary map(Tuple tuple) {
+        ProductSummary summary = new ProductSummary();
+        summary.setId(tuple.get(0, Long.class));
+        summary.setProductName(tuple.get(1, String.class));
+        summary.setCategory(tuple.get(2, String.class));
+        summary.setPrice(tuple.get(3, BigDecimal.class));
+        return summary;
+    }
+}
@@ -0,0 +1,124 @@
+package com.ejada.oms.product.service;
+
+import com.ejada.oms.core.config.properties.ApplicationProperties;
+import com.ejada.oms.core.config.properties.ApplicationProperties.ProductProperties.CatalogCacheProperties;
+import com.ejada.oms.core.util.ExpiringCache;
+import com.ejada.oms.product.dto.res.ProductCatalogEntry;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Near-cache of the product catalog on this node. Name, description, price and category are kept
+ * until the TTL or until the product is updated or deleted (see
+ * {@link com.ejada.oms.product.listener.ProductChangeListener}); stock quantities are kept
+ * separately for a much shorter time and evicted whenever this node reserves stock.
+ * Both caches are bounded by size, and are read on every order and product lookup, so they use
+ * {@link ExpiringCache}, which takes no lock on reads.
+ *
+ * @author Ali Hussein
+ */
+@Component
+public class ProductCatalogCache {
+
+    private final ExpiringCache<Long, ProductCatalogEntry> catalog;
+    private final ExpiringCache<Long, Integer> stock;
+    private final long catalogTtlMillis;
+    private final long stockTtlMillis;
+    private final Counter hits;
+    private final Counter misses;
+
+    public ProductCatalogCache(ApplicationProperties applicationProperties, MeterRegistry meterRegistry) {
+        CatalogCacheProperties properties = applicationProperties.getProducts().getCatalogCache();
+        this.catalog = new ExpiringCache<>(properties.getSize());
+        this.stock = new ExpiringCache<>(properties.getSize());
+        this.catalogTtlMillis = properties.getTtlSeconds() * 1000;
+        this.stockTtlMillis = properties.getStockTtlMs();
+        this.hits = Counter.builder("oms.product.catalog.cache")
+                .description("Catalog lookups served from the cache")
+                .tag("result", "hit")
+                .register(meterRegistry);
+        this.misses = Counter.builder("oms.product.catalog.cache")
+                .description("Catalog lookups that had to load the product")
+                .tag("result", "miss")
+                .register(meterRegistry);
+    }
+
+    /**
+     * @param loader loads the entries of the missing ids with one query; ids it does not return are absent from the result
+     */
+    public Map<Long, ProductCatalogEntry> getAll(Collection<Long> ids,
+                                                 Function<Collection<Long>, List<ProductCatalogEntry>> loader) {
+        Map<Long, ProductCatalogEntry> entries = new HashMap<>(ids.size() * 2);
+        List<Long> missing = new ArrayList<>();
+        for (Long id : ids) {
+            ProductCatalogEntry entry = catalog.get(id);
+            if (entry != null) {
+                entries.put(id, entry);
+            } else {
+                missing.add(id);
+            }
+        }
+        hits.increment(entries.size());
+
+        if (!missing.isEmpty()) {
+            misses.increment(missing.size());
+            long expiresAt = System.currentTimeMillis() + catalogTtlMillis;
+            for (ProductCatalogEntry entry : loader.apply(missing)) {
+                catalog.put(entry.id(), entry, expiresAt);
+                entries.put(entry.id(), entry);
+            }
+        }
+        return entries;
+    }
+
+    /**
+     * @param loader returns the current stock, or null when the product does not exist, which is not cached
+     */
+    public Integer getStock(Long id, Function<Long, Integer> loader) {
+        Integer quantity = stock.get(id);
+        if (quantity == null) {
+            quantity = loader.apply(id);
+            if (quantity != null) {
+                stock.put(id, quantity, System.currentTimeMillis() + stockTtlMillis);
+            }
+        }
+        return quantity;
+    }
+
+    public void evict(Long id) {
+        afterTransaction(() -> {
+            catalog.remove(id);
+            stock.remove(id);
+        });
+    }
+
+    public void evictStock(Long id) {
+        afterTransaction(() -> stock.remove(id));
+    }
+
+    /**
+     * Runs now and, inside a transaction, again once it completes, so a concurrent read of
+     * the uncommitted row does not stay cached.
+     */
+    private static void afterTransaction(Runnable eviction) {
+        eviction.run();
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    eviction.run();
+                }
+            });
+        }
+    }
+}
@@ -1,16 +1,26 @@
 package com.ejada.oms.product.service;
 
+import com.ejada.oms.product.dto.res.ProductCatalogEntry;
 import com.ejada.oms.product.entity.Product;
 import com.ejada.oms.product.dto.req.ProductCreateRequest;
 import com.ejada.oms.product.repository.ProductRepository;
 import com.ejada.oms.core.exception.BusinessException;
 import com.ejada.oms.core.exception.DataIntegrityException;
+import com.ejada.oms.core.util.Money;
 import com.ejada.oms.order.repository.OrderRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.math.BigDecimal;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
 /**
  * Service for product command operations.
  * 
@@ -24,6 +34,7 @@ public class ProductCommandService {
 
     private final ProductRepository productRepository;
     private final OrderRepository orderRepository;
+    private final ProductCatalogCache productCatalogCache;
 
     public Product create(ProductCreateRequest request) {
         log.info("Creating product: {}", request.getProductName());
@@ -50,6 +61,76 @@ public class ProductCommandService {
                 .orElseThrow(() -> BusinessException.productNotFound(id));
     }
 
+    /**
+     * Reference to a product without loading it, for use as an association target.
+     */
+    public Product getReference(Long id) {
+        return productRepository.getReferenceById(id);
+    }
+
+    /**
+     * Catalog entries of all requested products, keyed by product ID, from the catalog cache
+     * with one query for the ones it misses. Fails fast with the first missing ID so no stock
+     * is touched for an invalid order.
+     */
+    public Map<Long, ProductCatalogEntry> findCatalogEntries(Collection<Long> ids) {
+        Set<Long> uniqueIds = new LinkedHashSet<>(ids);
+        Map<Long, ProductCatalogEntry> entries =
+                productCatalogCache.getAll(uniqueIds, productRepository::findCatalogEntriesByIds);
+
+        for (Long id : uniqueIds) {
+            if (!entries.containsKey(id)) {
+                throw BusinessException.productNotFound(id);
+            }
+        }
+        return entries;
+    }
+
+    /**
+     * Load and lock the given products with one query, keyed by product ID.
+     * Missing IDs are simply absent from the result.
+     */
+    public Map<Long, Product> lockAllByIds(Collection<Long> ids) {
+        List<Product> products = productRepository.findAllByIdForUpdate(new LinkedHashSet<>(ids));
+
+        Map<Long, Product> productsById = new HashMap<>(products.size() * 2);
+        for (Product product : products) {
+            productsById.put(product.getId(), product);
+        }
+        return productsById;
+    }
+
+    /**
+     * Reserve stock with a single conditional UPDATE, leaving the managed entity untouched:
+     * its {@code stockQuantity} is stale afterwards and must not be read in this transaction.
+     *
+     * @return the product's current price, read from the updated row
+     */
+    public Money reserveStock(Product product, int quantity) {
+        return reserveStock(product.getId(), product.getProductName(), quantity);
+    }
+
+    /**
+     * Same as {@link #reserveStock(Product, int)} for a cached catalog entry. Orders must be priced
+     * from the returned price; when it differs from the entry's, the stale entry is evicted.
+     */
+    public Money reserveStock(ProductCatalogEntry product, int quantity) {
+        Money price = reserveStock(product.id(), product.productName(), quantity);
+        if (!price.equals(Money.of(product.price()))) {
+            productCatalogCache.evict(product.id());
+        }
+        return price;
+    }
+
+    private Money reserveStock(Long productId, String productName, int quantity) {
+        BigDecimal price = productRepository.decrementStock(productId, quantity).orElseThrow(() -> {
+            Integer available = productRepository.findStockQuantityById(productId);
+            return BusinessException.insufficientStock(productName, available != null ? available : 0, quantity);
+        });
+        productCatalogCache.evictStock(productId);
+        return Money.of(price);
+    }
+
     public void delete(Long id) {
         Product product = findById(id);
         
@@ -2,19 +2,29 @@ package com.ejada.oms.product.service;
 
 import com.ejada.oms.product.entity.Product;
 import com.ejada.oms.product.repository.ProductRepository;
+import com.ejada.oms.product.repository.ProductSummaryProjection;
+import com.ejada.oms.product.dto.res.ProductCatalogEntry;
+import com.ejada.oms.product.dto.res.ProductSummary;
+import com.ejada.oms.core.dto.GeneralFilterDto;
+import com.ejada.oms.core.exception.BusinessException;
 import com.ejada.oms.core.service.BaseListingService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import org.springframework.stereotype.Service;
 
+import java.util.List;
+
 @Service
 @RequiredArgsConstructor
 @Slf4j
 public class ProductQueryService extends BaseListingService<Product, Long> {
 
     private final ProductRepository productRepository;
+    private final ProductSummaryProjection productSummaryProjection;
+    private final ProductCatalogCache productCatalogCache;
 
     @Override
     protected JpaRepository<Product, Long> getRepository() {
@@ -31,4 +41,33 @@ public class ProductQueryService extends BaseListingService<Product, Long> {
         return Product.class;
     }
 
+    /**
+     * Listing in the {@code view=SUMMARY} form, selected column by column in one statement.
+     */
+    public Slice<ProductSummary> findAllSummaries(GeneralFilterDto filterDto) {
+        return findAll(filterDto, productSummaryProjection);
+    }
+
+    /**
+     * Catalog attributes of a product, usually served from the catalog cache.
+     */
+    public ProductCatalogEntry findCatalogEntry(Long id) {
+        ProductCatalogEntry entry = productCatalogCache.getAll(List.of(id), productRepository::findCatalogEntriesByIds).get(id);
+        if (entry == null) {
+            throw BusinessException.productNotFound(id);
+        }
+        return entry;
+    }
+
+    /**
+     * Current stock of a product, at most {@code app.products.catalog-cache.stock-ttl-ms} old.
+     */
+    public int findStockQuantity(Long id) {
+        Integer quantity = productCatalogCache.getStock(id, productRepository::findStockQuantityById);
+        if (quantity == null) {
+            throw BusinessException.productNotFound(id);
+        }
+        return quantity;
+    }
+
 }
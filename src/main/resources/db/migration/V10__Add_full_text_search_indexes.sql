@@ -0,0 +1,14 @@
+-- Full-text search for global search on products and customers
+-- search_document() builds the tsvector the GIN indexes hold. Queries call it over the same
+-- columns in the same order (app.search.entities.*.fields), so the planner matches them to the
+-- index instead of scanning with LIKE '%term%'. NULL columns are skipped.
+
+CREATE OR REPLACE FUNCTION search_document(VARIADIC fields TEXT[])
+RETURNS TSVECTOR
+LANGUAGE sql IMMUTABLE PARALLEL SAFE
+AS $$
+    SELECT to_tsvector('simple'::regconfig, array_to_string(fields, ' '))
+$$;
+
+CREATE INDEX idx_product_search ON product USING gin (search_document(product_name, category, description));
+CREATE INDEX idx_customer_search ON customer USING gin (search_document(first_name, last_name, mobile));
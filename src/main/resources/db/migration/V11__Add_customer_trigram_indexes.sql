@@ -0,0 +1,10 @@
+-- Trigram indexes for the customer lookup (GET /customers/lookup)
+-- gin_trgm_ops serves both similarity (%) and unanchored LIKE/ILIKE '%fragment%' matches,
+-- so misspelled names and partial mobiles or emails no longer scan the tables.
+-- The full name expression must stay identical to the one in CustomerRepository.lookup.
+
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+
+CREATE INDEX idx_customer_full_name_trgm ON customer USING gin ((first_name || ' ' || last_name) gin_trgm_ops);
+CREATE INDEX idx_customer_mobile_trgm ON customer USING gin (mobile gin_trgm_ops);
+CREATE INDEX idx_user_email_trgm ON user_table USING gin (email gin_trgm_ops);
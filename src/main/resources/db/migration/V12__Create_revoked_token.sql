@@ -0,0 +1,20 @@
+-- Tokens revoked before their expiry (logout), identified by the jti claim
+-- Loaded into the in-memory revocation list together with the ids of deactivated users.
+
+CREATE SEQUENCE revoked_token_seq INCREMENT BY 50;
+
+CREATE TABLE revoked_token (
+    revoked_token_id BIGINT PRIMARY KEY DEFAULT nextval('revoked_token_seq'),
+    token_id VARCHAR(36) NOT NULL,
+    user_id BIGINT NOT NULL,
+    expires_at TIMESTAMP NOT NULL,
+    revoked_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    version BIGINT DEFAULT 0,
+
+    CONSTRAINT uk_revoked_token_token_id UNIQUE (token_id),
+    CONSTRAINT fk_revoked_token_user FOREIGN KEY (user_id) REFERENCES user_table(user_id) ON DELETE CASCADE
+);
+
+ALTER SEQUENCE revoked_token_seq OWNED BY revoked_token.revoked_token_id;
+
+CREATE INDEX idx_revoked_token_expires_at ON revoked_token(expires_at);
@@ -0,0 +1,23 @@
+-- Refresh tokens, stored as SHA-256 hashes and rotated on every use
+-- Tokens issued from one login share a family_id; reusing a rotated token revokes the family.
+
+CREATE SEQUENCE refresh_token_seq INCREMENT BY 50;
+
+CREATE TABLE refresh_token (
+    refresh_token_id BIGINT PRIMARY KEY DEFAULT nextval('refresh_token_seq'),
+    token_hash VARCHAR(64) NOT NULL,
+    user_id BIGINT NOT NULL,
+    family_id VARCHAR(36) NOT NULL,
+    expires_at TIMESTAMP NOT NULL,
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    revoked_at TIMESTAMP,
+    version BIGINT DEFAULT 0,
+
+    CONSTRAINT uk_refresh_token_token_hash UNIQUE (token_hash),
+    CONSTRAINT fk_refresh_token_user FOREIGN KEY (user_id) REFERENCES user_table(user_id) ON DELETE CASCADE
+);
+
+ALTER SEQUENCE refresh_token_seq OWNED BY refresh_token.refresh_token_id;
+
+CREATE INDEX idx_refresh_token_expires_at ON refresh_token(expires_at);
+CREATE INDEX idx_refresh_token_family_id ON refresh_token(family_id);
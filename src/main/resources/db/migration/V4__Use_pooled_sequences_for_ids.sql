@@ -0,0 +1,48 @@
+-- Switch primary keys from IDENTITY (BIGSERIAL) to pooled sequences
+-- Hibernate pre-allocates blocks of 50 IDs per sequence call, which allows JDBC batch inserts.
+-- Sequence names follow Hibernate's standard implicit naming, which is derived from the table: <table name>_seq
+
+CREATE SEQUENCE user_table_seq INCREMENT BY 50;
+CREATE SEQUENCE customer_seq INCREMENT BY 50;
+CREATE SEQUENCE address_seq INCREMENT BY 50;
+CREATE SEQUENCE product_seq INCREMENT BY 50;
+CREATE SEQUENCE order_table_seq INCREMENT BY 50;
+CREATE SEQUENCE order_item_seq INCREMENT BY 50;
+CREATE SEQUENCE invoice_seq INCREMENT BY 50;
+
+-- Start each sequence one block above the current maximum ID.
+-- The pooled optimizer treats a fetched value as the upper end of its block,
+-- so the first block handed out starts right after the existing rows.
+SELECT setval('user_table_seq', (SELECT COALESCE(MAX(user_id), 0) FROM user_table) + 50, false);
+SELECT setval('customer_seq', (SELECT COALESCE(MAX(customer_id), 0) FROM customer) + 50, false);
+SELECT setval('address_seq', (SELECT COALESCE(MAX(address_id), 0) FROM address) + 50, false);
+SELECT setval('product_seq', (SELECT COALESCE(MAX(product_id), 0) FROM product) + 50, false);
+SELECT setval('order_table_seq', (SELECT COALESCE(MAX(order_id), 0) FROM order_table) + 50, false);
+SELECT setval('order_item_seq', (SELECT COALESCE(MAX(order_item_id), 0) FROM order_item) + 50, false);
+SELECT setval('invoice_seq', (SELECT COALESCE(MAX(invoice_id), 0) FROM invoice) + 50, false);
+
+-- Keep plain SQL inserts working by pointing the column defaults at the new sequences
+ALTER TABLE user_table ALTER COLUMN user_id SET DEFAULT nextval('user_table_seq');
+ALTER TABLE customer ALTER COLUMN customer_id SET DEFAULT nextval('customer_seq');
+ALTER TABLE address ALTER COLUMN address_id SET DEFAULT nextval('address_seq');
+ALTER TABLE product ALTER COLUMN product_id SET DEFAULT nextval('product_seq');
+ALTER TABLE order_table ALTER COLUMN order_id SET DEFAULT nextval('order_table_seq');
+ALTER TABLE order_item ALTER COLUMN order_item_id SET DEFAULT nextval('order_item_seq');
+ALTER TABLE invoice ALTER COLUMN invoice_id SET DEFAULT nextval('invoice_seq');
+
+ALTER SEQUENCE user_table_seq OWNED BY user_table.user_id;
+ALTER SEQUENCE customer_seq OWNED BY customer.customer_id;
+ALTER SEQUENCE address_seq OWNED BY address.address_id;
+ALTER SEQUENCE product_seq OWNED BY product.product_id;
+ALTER SEQUENCE order_table_seq OWNED BY order_table.order_id;
+ALTER SEQUENCE order_item_seq OWNED BY order_item.order_item_id;
+ALTER SEQUENCE invoice_seq OWNED BY invoice.invoice_id;
+
+-- Drop the old BIGSERIAL sequences
+DROP SEQUENCE user_table_user_id_seq;
+DROP SEQUENCE customer_customer_id_seq;
+DROP SEQUENCE address_address_id_seq;
+DROP SEQUENCE product_product_id_seq;
+DROP SEQUENCE order_table_order_id_seq;
+DROP SEQUENCE order_item_order_item_id_seq;
+DROP SEQUENCE invoice_invoice_id_seq;
@@ -0,0 +1,26 @@
+-- Idempotency keys for order creation
+-- The key row is inserted before the order in the same transaction, so a concurrent retry
+-- with the same key blocks on the unique index and never creates a second order.
+-- Keys are scoped to the submitting user and remember a hash of the request, so a key sent by
+-- another user, or reused with a different body, never replays an existing order.
+
+CREATE SEQUENCE order_idempotency_key_seq INCREMENT BY 50;
+
+CREATE TABLE order_idempotency_key (
+    idempotency_key_id BIGINT PRIMARY KEY DEFAULT nextval('order_idempotency_key_seq'),
+    idempotency_key VARCHAR(100) NOT NULL,
+    user_id BIGINT NOT NULL,
+    request_hash VARCHAR(64),
+    order_id BIGINT,
+    response_body TEXT,
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    version BIGINT DEFAULT 0,
+
+    CONSTRAINT uk_order_idempotency_key_user UNIQUE (user_id, idempotency_key),
+    CONSTRAINT fk_idempotency_key_user FOREIGN KEY (user_id) REFERENCES user_table(user_id) ON DELETE CASCADE,
+    CONSTRAINT fk_idempotency_key_order FOREIGN KEY (order_id) REFERENCES order_table(order_id) ON DELETE CASCADE
+);
+
+ALTER SEQUENCE order_idempotency_key_seq OWNED BY order_idempotency_key.idempotency_key_id;
+
+CREATE INDEX idx_idempotency_key_created_at ON order_idempotency_key(created_at);
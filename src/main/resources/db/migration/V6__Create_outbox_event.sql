@@ -0,0 +1,23 @@
+-- Transactional outbox for order events
+-- Rows are written in the same transaction as the order change and delivered afterwards by
+-- the outbox relay, which claims pending rows with FOR UPDATE SKIP LOCKED.
+
+CREATE SEQUENCE outbox_event_seq INCREMENT BY 50;
+
+CREATE TABLE outbox_event (
+    outbox_event_id BIGINT PRIMARY KEY DEFAULT nextval('outbox_event_seq'),
+    event_type VARCHAR(50) NOT NULL,
+    aggregate_id BIGINT NOT NULL,
+    event_status VARCHAR(20) NOT NULL DEFAULT 'PENDING' CHECK (event_status IN ('PENDING', 'PROCESSED', 'FAILED')),
+    attempts INTEGER NOT NULL DEFAULT 0,
+    last_error VARCHAR(500),
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    available_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    processed_at TIMESTAMP,
+    version BIGINT DEFAULT 0
+);
+
+ALTER SEQUENCE outbox_event_seq OWNED BY outbox_event.outbox_event_id;
+
+CREATE INDEX idx_outbox_event_pending ON outbox_event(available_at, outbox_event_id) WHERE event_status = 'PENDING';
+CREATE INDEX idx_outbox_event_processed_at ON outbox_event(processed_at) WHERE event_status = 'PROCESSED';
@@ -0,0 +1,20 @@
+-- Invoice numbers are allocated by the application from a per-year counter
+-- The application reserves a block of numbers per round trip and hands them out from memory,
+-- so the per-row trigger (which also depended on invoice_id) is no longer needed.
+-- Format stays INV-YYYY-NNNNNN.
+
+CREATE TABLE invoice_number_sequence (
+    invoice_year INTEGER PRIMARY KEY,
+    next_value BIGINT NOT NULL CHECK (next_value > 0)
+);
+
+-- Continue each year after the highest number already issued
+INSERT INTO invoice_number_sequence (invoice_year, next_value)
+SELECT CAST(SUBSTRING(invoice_number FROM 5 FOR 4) AS INTEGER),
+       MAX(CAST(SUBSTRING(invoice_number FROM 10) AS BIGINT)) + 1
+FROM invoice
+WHERE invoice_number ~ '^INV-[0-9]{4}-[0-9]+$'
+GROUP BY SUBSTRING(invoice_number FROM 5 FOR 4);
+
+DROP TRIGGER IF EXISTS generate_invoice_number_trigger ON invoice;
+DROP FUNCTION IF EXISTS generate_invoice_number();
@@ -0,0 +1,30 @@
+-- Tax rates by country and, optionally, state, with effective dates
+-- A row without a state applies to the whole country; a state row overrides it.
+-- The application keeps all rows in memory and reloads them when the table changes.
+
+CREATE SEQUENCE tax_rate_seq INCREMENT BY 50;
+
+CREATE TABLE tax_rate (
+    tax_rate_id BIGINT PRIMARY KEY DEFAULT nextval('tax_rate_seq'),
+    country VARCHAR(100) NOT NULL,
+    state VARCHAR(100),
+    rate DECIMAL(7,6) NOT NULL,
+    effective_from DATE NOT NULL,
+    effective_to DATE,
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    updated_at TIMESTAMP,
+    version BIGINT DEFAULT 0,
+
+    CONSTRAINT chk_tax_rate CHECK (rate >= 0 AND rate < 1),
+    CONSTRAINT chk_tax_rate_period CHECK (effective_to IS NULL OR effective_to > effective_from)
+);
+
+ALTER SEQUENCE tax_rate_seq OWNED BY tax_rate.tax_rate_id;
+
+CREATE UNIQUE INDEX uk_tax_rate_region_from ON tax_rate(UPPER(country), UPPER(COALESCE(state, '')), effective_from);
+
+CREATE TRIGGER update_tax_rate_updated_at BEFORE UPDATE ON tax_rate FOR EACH ROW EXECUTE FUNCTION update_updated_at_column();
+
+-- Keep the previous flat 8% for the existing customer base
+INSERT INTO tax_rate (country, state, rate, effective_from) VALUES
+('USA', NULL, 0.080000, DATE '2000-01-01');
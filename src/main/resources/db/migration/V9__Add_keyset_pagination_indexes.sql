@@ -0,0 +1,6 @@
+-- Composite (sort key, id) indexes for cursor pagination
+-- A cursor page seeks to (sort key, id) > (last key, last id), which these indexes answer
+-- without scanning the rows of earlier pages.
+
+CREATE INDEX idx_order_date_id ON order_table(order_date, order_id);
+CREATE INDEX idx_invoice_date_id ON invoice(invoice_date, invoice_id);
@@ -0,0 +1,165 @@
+package com.ejada.oms;
+
+import com.ejada.oms.auth.entity.RefreshToken;
+import com.ejada.oms.auth.entity.RevokedToken;
+import com.ejada.oms.auth.entity.User;
+import com.ejada.oms.core.entity.OutboxEvent;
+import com.ejada.oms.core.util.Money;
+import com.ejada.oms.customer.entity.Address;
+import com.ejada.oms.customer.entity.Customer;
+import com.ejada.oms.invoice.entity.Invoice;
+import com.ejada.oms.invoice.entity.TaxRate;
+import com.ejada.oms.order.entity.Order;
+import com.ejada.oms.order.entity.OrderIdempotencyKey;
+import com.ejada.oms.order.entity.OrderItem;
+import com.ejada.oms.product.entity.Product;
+import com.ejada.oms.product.repository.ProductRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.metamodel.EntityType;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Runs against the PostgreSQL database configured by the {@code DB_*} environment variables, after
+ * Flyway has migrated it, and only when {@code DB_HOST} is set. Inserts one row of every entity, so
+ * mismatches between the mappings and the migrated schema (sequence names, columns, constraints)
+ * fail here instead of on the first request. Each test rolls back.
+ */
+@SpringBootTest
+@Transactional
+@EnabledIfEnvironmentVariable(named = "DB_HOST", matches = ".+")
+class PersistenceIntegrationTest {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Test
+    void everyEntityCanBeInserted() {
+        String suffix = UUID.randomUUID().toString().substring(0, 8);
+        List<Object> entities = new ArrayList<>();
+
+        User user = persist(entities, User.builder()
+                .username("it-" + suffix)
+                .email("it-" + suffix + "@example.com")
+                .passwordHash("not-a-hash")
+                .role(User.UserRole.CUSTOMER)
+                .build());
+        Customer customer = persist(entities, Customer.builder()
+                .user(user)
+                .firstName("Integration")
+                .lastName("Test")
+                .mobile("+15550100")
+                .build());
+        Address address = persist(entities, Address.builder()
+                .customer(customer)
+                .addressType("HOME")
+                .streetAddress("1 Test Street")
+                .city("Springfield")
+                .state("IL")
+                .postalCode("62701")
+                .country("USA")
+                .isDefault(true)
+                .build());
+        Product product = persist(entities, Product.builder()
+                .productName("Integration product " + suffix)
+                .price(new BigDecimal("12.34"))
+                .stockQuantity(10)
+                .build());
+
+        Order order = Order.builder()
+                .customer(customer)
+                .shippingAddress(address)
+                .createdByUser(user)
+                .totalAmount(Money.ZERO)
+                .build();
+        OrderItem item = OrderItem.of(product, 2);
+        order.addOrderItem(item);
+        persist(entities, order);
+        entities.add(item);
+
+        persist(entities, Invoice.builder()
+                .order(order)
+                .invoiceNumber("INV-IT-" + suffix)
+                .invoiceAmount(new BigDecimal("24.68"))
+                .totalAmount(new BigDecimal("24.68"))
+                .build());
+        persist(entities, TaxRate.builder()
+                .country("IT-" + suffix)
+                .rate(new BigDecimal("0.050000"))
+                .effectiveFrom(LocalDate.of(2000, 1, 1))
+                .build());
+        persist(entities, OrderIdempotencyKey.builder()
+                .userId(user.getId())
+                .idempotencyKey("key-" + suffix)
+                .requestHash("0".repeat(64))
+                .orderId(order.getId())
+                .build());
+        persist(entities, OutboxEvent.builder()
+                .eventType("ORDER_APPROVED")
+                .aggregateId(order.getId())
+                .build());
+        persist(entities, RevokedToken.builder()
+                .tokenId(UUID.randomUUID().toString())
+                .userId(user.getId())
+                .expiresAt(LocalDateTime.now().plusHours(1))
+                .build());
+        persist(entities, RefreshToken.builder()
+                .tokenHash("f".repeat(56) + suffix)
+                .user(user)
+                .familyId(UUID.randomUUID().toString())
+                .expiresAt(LocalDateTime.now().plusDays(1))
+                .build());
+
+        entityManager.flush();
+        entityManager.clear();
+
+        Set<Class<?>> inserted = entities.stream().map(Object::getClass).collect(Collectors.toSet());
+        Set<Class<?>> mapped = entityManager.getMetamodel().getEntities().stream()
+                .map(EntityType::getJavaType)
+                .collect(Collectors.toCollection(HashSet::new));
+        assertThat(inserted).containsExactlyInAnyOrderElementsOf(mapped);
+
+        Order reloaded = entityManager.find(Order.class, order.getId());
+        assertThat(reloaded.getTotalAmount()).isEqualTo(Money.ofMinor(2468));
+        assertThat(reloaded.getOrderItems()).singleElement()
+                .satisfies(line -> assertThat(line.getSubtotal()).isEqualTo(Money.ofMinor(2468)));
+    }
+
+    @Test
+    void stockReservationReturnsThePriceAndRefusesOverdraw() {
+        Product product = productRepository.saveAndFlush(Product.builder()
+                .productName("Reservation product " + UUID.randomUUID())
+                .price(new BigDecimal("9.99"))
+                .stockQuantity(3)
+                .build());
+
+        assertThat(productRepository.decrementStock(product.getId(), 2)).contains(new BigDecimal("9.99"));
+        assertThat(productRepository.decrementStock(product.getId(), 2)).isEmpty();
+        assertThat(productRepository.findStockQuantityById(product.getId())).isEqualTo(1);
+    }
+
+    private <E> E persist(List<Object> entities, E entity) {
+        entityManager.persist(entity);
+        entities.add(entity);
+        return entity;
+    }
+}
@@ -0,0 +1,128 @@
+package com.ejada.oms.auth.service;
+
+import com.ejada.oms.auth.entity.RefreshToken;
+import com.ejada.oms.auth.entity.User;
+import com.ejada.oms.auth.repository.RefreshTokenRepository;
+import com.ejada.oms.core.config.properties.ApplicationProperties;
+import com.ejada.oms.core.exception.BusinessException;
+import com.ejada.oms.core.util.TokenHashing;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class RefreshTokenServiceTest {
+
+    /** Stored tokens by hash, standing in for the refresh_token table */
+    private final Map<String, RefreshToken> tokens = new HashMap<>();
+    private User user;
+    private RefreshTokenService refreshTokenService;
+
+    @BeforeEach
+    void setUp() {
+        RefreshTokenRepository repository = mock(RefreshTokenRepository.class);
+        when(repository.save(any(RefreshToken.class))).thenAnswer(invocation -> {
+            RefreshToken token = invocation.getArgument(0);
+            tokens.put(token.getTokenHash(), token);
+            return token;
+        });
+        when(repository.findByTokenHash(anyString()))
+                .thenAnswer(invocation -> Optional.ofNullable(tokens.get(invocation.<String>getArgument(0))));
+        when(repository.revokeFamily(anyString(), any(LocalDateTime.class))).thenAnswer(invocation -> {
+            String familyId = invocation.getArgument(0);
+            int revoked = 0;
+            for (RefreshToken token : tokens.values()) {
+                if (token.getFamilyId().equals(familyId) && !token.isRevoked()) {
+                    token.setRevokedAt(invocation.getArgument(1));
+                    revoked++;
+                }
+            }
+            return revoked;
+        });
+
+        ApplicationProperties properties = new ApplicationProperties();
+        properties.getSecurity().getRefreshToken().setExpiration(60_000);
+        refreshTokenService = new RefreshTokenService(repository, properties);
+
+        user = User.builder().username("customer").isActive(true).build();
+        user.setId(1L);
+    }
+
+    @Test
+    void rotationRevokesThePresentedTokenAndKeepsTheFamily() {
+        String first = refreshTokenService.issue(user);
+
+        RefreshTokenService.Rotation rotation = refreshTokenService.rotate(first);
+
+        assertThat(rotation.user()).isSameAs(user);
+        assertThat(rotation.token()).isNotEqualTo(first);
+        assertThat(stored(first).isRevoked()).isTrue();
+        assertThat(stored(rotation.token()).isRevoked()).isFalse();
+        assertThat(stored(rotation.token()).getFamilyId()).isEqualTo(stored(first).getFamilyId());
+        assertThat(tokens).doesNotContainKey(first);
+    }
+
+    @Test
+    void reusingARotatedTokenRevokesTheWholeFamily() {
+        String first = refreshTokenService.issue(user);
+        String second = refreshTokenService.rotate(first).token();
+        String otherSession = refreshTokenService.issue(user);
+
+        assertThatThrownBy(() -> refreshTokenService.rotate(first))
+                .isInstanceOf(BusinessException.class)
+                .extracting("errorCode").isEqualTo("REFRESH_TOKEN_REUSED");
+
+        assertThat(stored(second).isRevoked()).isTrue();
+        assertThat(stored(otherSession).isRevoked()).isFalse();
+        assertThatThrownBy(() -> refreshTokenService.rotate(second))
+                .isInstanceOf(BusinessException.class)
+                .extracting("errorCode").isEqualTo("REFRESH_TOKEN_REUSED");
+    }
+
+    @Test
+    void unknownAndExpiredTokensAreRejected() {
+        assertThatThrownBy(() -> refreshTokenService.rotate("unknown"))
+                .isInstanceOf(BusinessException.class)
+                .extracting("errorCode").isEqualTo("INVALID_REFRESH_TOKEN");
+
+        String expired = refreshTokenService.issue(user);
+        stored(expired).setExpiresAt(LocalDateTime.now().minusSeconds(1));
+        assertThatThrownBy(() -> refreshTokenService.rotate(expired))
+                .isInstanceOf(BusinessException.class)
+                .extracting("errorCode").isEqualTo("INVALID_REFRESH_TOKEN");
+    }
+
+    @Test
+    void inactiveUsersCannotRefresh() {
+        String token = refreshTokenService.issue(user);
+        user.setIsActive(false);
+
+        assertThatThrownBy(() -> refreshTokenService.rotate(token))
+                .isInstanceOf(BusinessException.class)
+                .extracting("errorCode").isEqualTo("USER_INACTIVE");
+    }
+
+    @Test
+    void revokeEndsTheSession() {
+        String first = refreshTokenService.issue(user);
+        String second = refreshTokenService.rotate(first).token();
+
+        refreshTokenService.revoke(second);
+
+        assertThat(stored(second).isRevoked()).isTrue();
+    }
+
+    private RefreshToken stored(String rawToken) {
+        return tokens.get(TokenHashing.sha256(rawToken));
+    }
+}
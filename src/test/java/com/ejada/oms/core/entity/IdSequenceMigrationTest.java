@@ -0,0 +1,95 @@
+package com.ejada.oms.core.entity;
+
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.id.enhanced.DatabaseStructure;
+import org.hibernate.id.enhanced.SequenceStyleGenerator;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
+import org.springframework.orm.jpa.LocalContainerEntityManagerFactoryBean;
+import org.springframework.orm.jpa.vendor.HibernateJpaVendorAdapter;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Checks, without a database, that every entity's ID sequence as Hibernate resolves it under the
+ * application's naming settings is created by the migrations with the allocation size Hibernate expects.
+ */
+class IdSequenceMigrationTest {
+
+    private static final Pattern CREATE_SEQUENCE = Pattern.compile(
+            "CREATE SEQUENCE (\\w+) INCREMENT BY (\\d+)", Pattern.CASE_INSENSITIVE);
+    private static final Pattern DROP_SEQUENCE = Pattern.compile("DROP SEQUENCE (\\w+)", Pattern.CASE_INSENSITIVE);
+
+    private LocalContainerEntityManagerFactoryBean factoryBean;
+
+    @AfterEach
+    void tearDown() {
+        if (factoryBean != null) {
+            factoryBean.destroy();
+        }
+    }
+
+    @Test
+    void everyEntitySequenceIsCreatedByTheMigrations() throws IOException {
+        Map<String, Integer> migrated = migratedSequences();
+
+        factoryBean = new LocalContainerEntityManagerFactoryBean();
+        factoryBean.setPackagesToScan("com.ejada.oms");
+        factoryBean.setJpaVendorAdapter(new HibernateJpaVendorAdapter());
+        // Same naming as the application: Spring Boot's strategies plus the standard ID structure naming
+        factoryBean.setJpaPropertyMap(Map.of(
+                "hibernate.dialect", "org.hibernate.dialect.PostgreSQLDialect",
+                "hibernate.boot.allow_jdbc_metadata_access", "false",
+                "hibernate.jpa_callbacks.enabled", "false",
+                "hibernate.id.db_structure_naming_strategy", "standard",
+                "hibernate.physical_naming_strategy",
+                "org.hibernate.boot.model.naming.CamelCaseToUnderscoresNamingStrategy",
+                "hibernate.implicit_naming_strategy",
+                "org.springframework.boot.orm.jpa.hibernate.SpringImplicitNamingStrategy"));
+        factoryBean.afterPropertiesSet();
+
+        Map<String, Integer> expected = new HashMap<>();
+        factoryBean.getObject().unwrap(SessionFactoryImplementor.class).getMappingMetamodel()
+                .forEachEntityDescriptor(entity -> {
+                    if (entity.getGenerator() instanceof SequenceStyleGenerator generator) {
+                        DatabaseStructure sequence = generator.getDatabaseStructure();
+                        expected.put(sequence.getPhysicalName().render(), sequence.getIncrementSize());
+                    }
+                });
+
+        assertThat(expected).isNotEmpty();
+        assertThat(migrated).containsAllEntriesOf(expected);
+    }
+
+    private static Map<String, Integer> migratedSequences() throws IOException {
+        Resource[] migrations = new PathMatchingResourcePatternResolver()
+                .getResources("classpath:db/migration/V*__*.sql");
+        assertThat(migrations).isNotEmpty();
+
+        Map<String, Integer> sequences = new HashMap<>();
+        for (Resource migration : migrations) {
+            String sql = migration.getContentAsString(StandardCharsets.UTF_8);
+            Matcher created = CREATE_SEQUENCE.matcher(sql);
+            while (created.find()) {
+                sequences.put(created.group(1).toLowerCase(), Integer.parseInt(created.group(2)));
+            }
+        }
+        // Dropped sequences are the old BIGSERIAL ones, never one created above
+        for (Resource migration : migrations) {
+            Matcher dropped = DROP_SEQUENCE.matcher(migration.getContentAsString(StandardCharsets.UTF_8));
+            while (dropped.find()) {
+                sequences.remove(dropped.group(1).toLowerCase());
+            }
+        }
+        return sequences;
+    }
+}
@@ -0,0 +1,203 @@
+package com.ejada.oms.core.specification;
+
+import com.ejada.oms.core.dto.GeneralFilterDto;
+import com.ejada.oms.core.dto.GeneralFilterDto.FilterCriteria;
+import com.ejada.oms.core.dto.GeneralFilterDto.FilterOperator;
+import com.ejada.oms.core.dto.PageCursor;
+import com.ejada.oms.core.exception.BusinessException;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.lang.reflect.Proxy;
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class DynamicSpecificationBuilderTest {
+
+    private static final Set<FilterOperator> COMPARABLE = EnumSet.of(FilterOperator.EQUALS,
+            FilterOperator.GREATER_THAN, FilterOperator.BETWEEN, FilterOperator.IN);
+
+    private final EntityFilterMetadata metadata = new EntityFilterMetadata(Object.class, Map.of(
+            "id", field("id", Long.class, COMPARABLE, Long::valueOf),
+            "price", field("price", BigDecimal.class, COMPARABLE, BigDecimal::new)),
+            List.of(), false);
+
+    @Test
+    void filterErrorsAreCollectedIntoOneValidationError() {
+        GeneralFilterDto filter = filter(
+                criterion("unknown", FilterOperator.EQUALS, "1", null),
+                criterion("price", FilterOperator.CONTAINS, "1", null),
+                criterion("id", FilterOperator.EQUALS, "abc", null),
+                criterion("price", FilterOperator.GREATER_THAN, "10", null));
+
+        assertThatThrownBy(() -> DynamicSpecificationBuilder.buildSpecification(filter, metadata))
+                .isInstanceOf(BusinessException.class)
+                .hasMessage("Invalid filter: unknown field 'unknown'; "
+                        + "operator CONTAINS is not supported for 'price'; "
+                        + "'abc' is not a valid Long for 'id'");
+    }
+
+    @Test
+    void filterValuesAreRequired() {
+        GeneralFilterDto filter = filter(
+                criterion("price", FilterOperator.EQUALS, " ", null),
+                criterion("price", FilterOperator.BETWEEN, "1", null),
+                criterion("id", FilterOperator.IN, "", null),
+                criterion("id", FilterOperator.IN, "1,x", null));
+
+        assertThatThrownBy(() -> DynamicSpecificationBuilder.buildSpecification(filter, metadata))
+                .isInstanceOf(BusinessException.class)
+                .hasMessage("Invalid filter: 'price' requires a value; 'price' requires a value; "
+                        + "'id' IN requires a value; 'x' is not a valid Long for 'id'");
+    }
+
+    @Test
+    void validFiltersCompile() {
+        GeneralFilterDto filter = filter(
+                criterion("price", FilterOperator.BETWEEN, "1", "2.50"),
+                criterion("id", FilterOperator.IN, "1, 2", null));
+
+        assertThat(DynamicSpecificationBuilder.<Object>buildSpecification(filter, metadata)).isNotNull();
+    }
+
+    @Test
+    void relevanceSortRequiresFullTextSearch() {
+        GeneralFilterDto filter = GeneralFilterDto.builder()
+                .globalSearch("laptop")
+                .sortBy(GeneralFilterDto.SORT_BY_RELEVANCE)
+                .build();
+
+        assertThatThrownBy(() -> DynamicSpecificationBuilder.buildSpecification(filter, metadata))
+                .isInstanceOf(BusinessException.class)
+                .hasMessage("Sorting by relevance requires a full-text globalSearch term");
+    }
+
+    @Test
+    void seekAscendingPastValueIsBoundedBelowAndContinuesIntoNulls() {
+        assertThat(seek(Sort.Direction.ASC, "10.00")).isEqualTo(
+                "and(greaterThanOrEqualTo(price, 10.00), or(greaterThan(price, 10.00), greaterThan(id, 5)))");
+        assertThat(nextGroup(Sort.Direction.ASC, "10.00")).isEqualTo("isNull(price)");
+    }
+
+    @Test
+    void seekDescendingPastValueIsBoundedAboveAndExcludesNulls() {
+        assertThat(seek(Sort.Direction.DESC, "10.00")).isEqualTo(
+                "and(lessThanOrEqualTo(price, 10.00), or(lessThan(price, 10.00), lessThan(id, 5)))");
+        assertThat(nextGroup(Sort.Direction.DESC, "10.00")).isNull();
+    }
+
+    @Test
+    void seekAscendingPastNullStaysWithinTrailingNulls() {
+        assertThat(seek(Sort.Direction.ASC, null)).isEqualTo(
+                "and(isNull(price), greaterThan(id, 5))");
+        assertThat(nextGroup(Sort.Direction.ASC, null)).isNull();
+    }
+
+    @Test
+    void seekDescendingPastNullContinuesIntoValues() {
+        assertThat(seek(Sort.Direction.DESC, null)).isEqualTo(
+                "and(isNull(price), lessThan(id, 5))");
+        assertThat(nextGroup(Sort.Direction.DESC, null)).isEqualTo("isNotNull(price)");
+    }
+
+    @Test
+    void seekRejectsUnparsableCursor() {
+        assertThatThrownBy(() -> DynamicSpecificationBuilder.buildSeekSpecification(
+                new PageCursor("price", Sort.Direction.ASC, "five", "10.00"), metadata))
+                .isInstanceOf(BusinessException.class)
+                .hasMessage("Invalid pagination cursor");
+        assertThatThrownBy(() -> DynamicSpecificationBuilder.buildSeekSpecification(
+                new PageCursor("price", Sort.Direction.ASC, "5", "ten"), metadata))
+                .isInstanceOf(BusinessException.class)
+                .hasMessage("Invalid pagination cursor");
+        assertThatThrownBy(() -> DynamicSpecificationBuilder.buildSeekSpecification(
+                new PageCursor("unknown", Sort.Direction.ASC, "5", "10.00"), metadata))
+                .isInstanceOf(BusinessException.class)
+                .hasMessage("Invalid pagination cursor");
+    }
+
+    private String seek(Sort.Direction direction, String value) {
+        Specification<Object> specification = DynamicSpecificationBuilder.buildSeekSpecification(
+                new PageCursor("price", direction, "5", value), metadata);
+        return specification.toPredicate(root(), null, criteriaBuilder()).toString();
+    }
+
+    private String nextGroup(Sort.Direction direction, String value) {
+        Specification<Object> specification = DynamicSpecificationBuilder.buildSeekNextGroupSpecification(
+                new PageCursor("price", direction, "5", value), metadata);
+        return specification == null ? null : specification.toPredicate(root(), null, criteriaBuilder()).toString();
+    }
+
+    private static GeneralFilterDto filter(FilterCriteria... criteria) {
+        return GeneralFilterDto.builder().filters(List.of(criteria)).build();
+    }
+
+    private static FilterCriteria criterion(String field, FilterOperator operator, String value, String value2) {
+        return FilterCriteria.builder().field(field).operator(operator).value(value).value2(value2).build();
+    }
+
+    private static FilterField field(String path, Class<?> type, Set<FilterOperator> operators,
+                                     Function<String, Object> parser) {
+        return new FilterField(path, type, operators, true, value -> {
+            try {
+                return parser.apply(value);
+            } catch (NumberFormatException e) {
+                return null;
+            }
+        });
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Root<Object> root() {
+        return (Root<Object>) Proxy.newProxyInstance(Root.class.getClassLoader(), new Class<?>[]{Root.class},
+                (proxy, method, args) -> switch (method.getName()) {
+                    case "get" -> rendered(Path.class, String.valueOf(args[0]));
+                    case "toString" -> "root";
+                    default -> throw new UnsupportedOperationException(method.getName());
+                });
+    }
+
+    /**
+     * Criteria builder whose predicates render as {@code operation(arguments)}, so the shape of
+     * a specification can be asserted as a string.
+     */
+    private static CriteriaBuilder criteriaBuilder() {
+        return (CriteriaBuilder) Proxy.newProxyInstance(CriteriaBuilder.class.getClassLoader(),
+                new Class<?>[]{CriteriaBuilder.class},
+                (proxy, method, args) -> {
+                    if (method.getName().equals("toString")) {
+                        return "criteriaBuilder";
+                    }
+                    String arguments = Arrays.stream(args)
+                            .flatMap(arg -> arg instanceof Object[] array ? Arrays.stream(array) : Stream.of(arg))
+                            .map(String::valueOf)
+                            .collect(Collectors.joining(", "));
+                    return rendered(Predicate.class, method.getName() + "(" + arguments + ")");
+                });
+    }
+
+    private static <E> E rendered(Class<E> type, String text) {
+        return type.cast(Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type},
+                (proxy, method, args) -> {
+                    if (method.getName().equals("toString")) {
+                        return text;
+                    }
+                    throw new UnsupportedOperationException(method.getName());
+                }));
+    }
+}
@@ -0,0 +1,69 @@
+package com.ejada.oms.core.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ExpiringCacheTest {
+
+    private static final long LATER = Long.MAX_VALUE;
+
+    @Test
+    void expiredEntriesAreNotReturned() {
+        ExpiringCache<String, String> cache = new ExpiringCache<>(10);
+        cache.put("live", "a", LATER);
+        cache.put("expired", "b", System.currentTimeMillis() - 1);
+
+        assertThat(cache.get("live")).isEqualTo("a");
+        assertThat(cache.get("expired")).isNull();
+        assertThat(cache.size()).isEqualTo(1);
+    }
+
+    @Test
+    void overflowDropsExpiredEntriesFirst() {
+        ExpiringCache<Integer, Integer> cache = new ExpiringCache<>(10);
+        for (int i = 0; i < 5; i++) {
+            cache.put(i, i, System.currentTimeMillis() - 1);
+        }
+        for (int i = 5; i < 11; i++) {
+            cache.put(i, i, LATER);
+        }
+
+        assertThat(cache.size()).isEqualTo(6);
+        for (int i = 5; i < 11; i++) {
+            assertThat(cache.get(i)).isEqualTo(i);
+        }
+    }
+
+    @Test
+    void staysNearItsBoundUnderConcurrentWrites() throws Exception {
+        int maxSize = 1_000;
+        ExpiringCache<Integer, Integer> cache = new ExpiringCache<>(maxSize);
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < 8; t++) {
+                int offset = t * 100_000;
+                futures.add(executor.submit(() -> {
+                    for (int i = 0; i < 20_000; i++) {
+                        cache.put(offset + i, i, LATER);
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+
+        // writers that lose the eviction race may each leave one entry over the bound
+        assertThat(cache.size()).isLessThanOrEqualTo(maxSize + 8);
+    }
+}
@@ -0,0 +1,60 @@
+package com.ejada.oms.core.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class MoneyTest {
+
+    @Test
+    void ofRoundsHalfUpToTwoDecimals() {
+        assertThat(Money.of(new BigDecimal("10.005")).minorUnits()).isEqualTo(1001);
+        assertThat(Money.of(new BigDecimal("10.004")).minorUnits()).isEqualTo(1000);
+        assertThat(Money.of(new BigDecimal("-10.005")).minorUnits()).isEqualTo(-1001);
+        assertThat(Money.of(new BigDecimal("7")).toBigDecimal()).isEqualByComparingTo("7.00");
+    }
+
+    @Test
+    void toBigDecimalKeepsScaleTwo() {
+        assertThat(Money.ofMinor(1999).toBigDecimal()).isEqualTo(new BigDecimal("19.99"));
+        assertThat(Money.ZERO.toBigDecimal()).isEqualTo(new BigDecimal("0.00"));
+        assertThat(Money.ofMinor(5)).hasToString("0.05");
+    }
+
+    @Test
+    void timesRateRoundsHalfUpAwayFromZero() {
+        long eightPercent = Money.rateOf(new BigDecimal("0.08"));
+
+        // 0.08 * 0.06 = 0.0048 -> 0.00, 0.08 * 0.07 = 0.0056 -> 0.01
+        assertThat(Money.ofMinor(6).timesRate(eightPercent)).isEqualTo(Money.ZERO);
+        assertThat(Money.ofMinor(7).timesRate(eightPercent)).isEqualTo(Money.ofMinor(1));
+        // exactly half a cent rounds up, and down for negative amounts
+        long half = Money.rateOf(new BigDecimal("0.5"));
+        assertThat(Money.ofMinor(1).timesRate(half)).isEqualTo(Money.ofMinor(1));
+        assertThat(Money.ofMinor(-1).timesRate(half)).isEqualTo(Money.ofMinor(-1));
+    }
+
+    @Test
+    void matchesBigDecimalArithmetic() {
+        BigDecimal price = new BigDecimal("1299.99");
+        BigDecimal rate = new BigDecimal("0.0825");
+
+        BigDecimal expectedSubtotal = price.multiply(BigDecimal.valueOf(3));
+        BigDecimal expectedTax = expectedSubtotal.multiply(rate).setScale(Money.SCALE, Money.ROUNDING);
+
+        Money subtotal = Money.of(price).times(3);
+        assertThat(subtotal.toBigDecimal()).isEqualByComparingTo(expectedSubtotal);
+        assertThat(subtotal.timesRate(Money.rateOf(rate)).toBigDecimal()).isEqualByComparingTo(expectedTax);
+    }
+
+    @Test
+    void overflowIsRejected() {
+        assertThatThrownBy(() -> Money.ofMinor(Long.MAX_VALUE).plus(Money.ofMinor(1)))
+                .isInstanceOf(ArithmeticException.class);
+        assertThatThrownBy(() -> Money.ofMinor(Long.MAX_VALUE / 2 + 1).times(2))
+                .isInstanceOf(ArithmeticException.class);
+    }
+}
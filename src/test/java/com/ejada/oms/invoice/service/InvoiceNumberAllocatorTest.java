@@ -0,0 +1,99 @@
+package com.ejada.oms.invoice.service;
+
+import com.ejada.oms.core.config.properties.ApplicationProperties;
+import com.ejada.oms.invoice.repository.InvoiceRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.Year;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class InvoiceNumberAllocatorTest {
+
+    private static final int BLOCK_SIZE = 3;
+
+    private final int year = Year.now().getValue();
+    private InvoiceRepository invoiceRepository;
+    private InvoiceNumberAllocator allocator;
+
+    @BeforeEach
+    void setUp() {
+        invoiceRepository = mock(InvoiceRepository.class);
+        ApplicationProperties properties = new ApplicationProperties();
+        properties.getInvoices().setNumberBlockSize(BLOCK_SIZE);
+        allocator = new InvoiceNumberAllocator(invoiceRepository, mock(PlatformTransactionManager.class), properties);
+    }
+
+    @Test
+    void handsOutABlockBeforeReservingTheNext() {
+        // reserveInvoiceNumbers returns the exclusive end of the reserved block
+        when(invoiceRepository.reserveInvoiceNumbers(year, BLOCK_SIZE)).thenReturn(4L, 7L);
+
+        List<String> numbers = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            numbers.add(allocator.next());
+        }
+
+        assertThat(numbers).containsExactly(number(1), number(2), number(3), number(4));
+        verify(invoiceRepository, times(2)).reserveInvoiceNumbers(year, BLOCK_SIZE);
+    }
+
+    @Test
+    void concurrentCallersGetUniqueNumbersAndFullBlocks() throws Exception {
+        AtomicLong sequence = new AtomicLong(1);
+        when(invoiceRepository.reserveInvoiceNumbers(eq(year), anyInt()))
+                .thenAnswer(invocation -> sequence.addAndGet(BLOCK_SIZE));
+
+        int threads = 8;
+        int perThread = 300;
+        Set<String> numbers = ConcurrentHashMap.newKeySet();
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                futures.add(executor.submit(() -> {
+                    for (int i = 0; i < perThread; i++) {
+                        numbers.add(allocator.next());
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+
+        assertThat(numbers).hasSize(threads * perThread);
+        assertThat(numbers).contains(number(1), number(threads * perThread));
+        verify(invoiceRepository, times(threads * perThread / BLOCK_SIZE)).reserveInvoiceNumbers(year, BLOCK_SIZE);
+    }
+
+    @Test
+    void failedReservationIsReported() {
+        when(invoiceRepository.reserveInvoiceNumbers(year, BLOCK_SIZE)).thenReturn(null);
+
+        assertThatThrownBy(allocator::next).isInstanceOf(IllegalStateException.class);
+    }
+
+    private String number(long value) {
+        return String.format("INV-%d-%06d", year, value);
+    }
+}